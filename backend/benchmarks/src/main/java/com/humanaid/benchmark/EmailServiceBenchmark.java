@@ -0,0 +1,47 @@
+package com.humanaid.benchmark;
+
+import com.humanaid.entity.Contact;
+import com.humanaid.service.EmailService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문의 접수 알림 메일 본문 생성 경로 (실제 발송 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EmailService emailService;
+    private Contact contact;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SeededApplication.start("email-bench", 0, 0);
+        emailService = context.getBean(EmailService.class);
+
+        contact = SeededApplication.contact(new Random(42), 1);
+        contact.setId(1L);
+        contact.setCreatedAt(LocalDateTime.now());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SimpleMailMessage buildContactNotification() {
+        return emailService.buildContactNotification(contact);
+    }
+}
@@ -0,0 +1,103 @@
+package com.humanaid.benchmark;
+
+import com.humanaid.HumanaidApplication;
+import com.humanaid.entity.Contact;
+import com.humanaid.entity.News;
+import com.humanaid.repository.ContactRepository;
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.search.ContactSearchIndex;
+import com.humanaid.search.NewsSearchIndex;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * 웹 서버 없이 H2 메모리 DB로 기동하고, 지정한 건수만큼 뉴스/문의 데이터를 생성한다.
+ */
+public final class SeededApplication {
+
+    static final String[] WORDS = {
+        "인공지능", "의료", "진단", "시스템", "헬스케어", "데이터", "플랫폼", "연구", "협력", "병원",
+        "영상", "분석", "예측", "모델", "임상", "서비스", "디지털", "혁신", "개발", "출시",
+        "AI", "MRI", "CT", "cloud", "GPU", "2024", "partnership", "startup", "research", "platform"
+    };
+
+    static final String[] CATEGORIES = { "technology", "partnership", "research", "company" };
+
+    private static final int SAVE_BATCH = 1000;
+
+    private SeededApplication() {}
+
+    /**
+     * 컨텍스트 기동 후 데이터 생성, 검색 색인 재생성
+     */
+    public static ConfigurableApplicationContext start(String name, int newsCount, int contactCount) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HumanaidApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.sql.init.mode=never",
+                "spring.flyway.enabled=false",
+                "mail.outbox.dispatcher.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.com.humanaid=WARN")
+            .run();
+
+        Random random = new Random(42);
+        NewsRepository newsRepository = context.getBean(NewsRepository.class);
+        List<News> news = new ArrayList<>(SAVE_BATCH);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < newsCount; i++) {
+            News item = new News(sentence(random, 6), sentence(random, 20), sentence(random, 200),
+                CATEGORIES[i % CATEGORIES.length], "benchmark");
+            item.setPublished(i % 10 != 0);
+            item.setPublishedAt(now.minusMinutes(i));
+            news.add(item);
+            if (news.size() == SAVE_BATCH) {
+                newsRepository.saveAll(news);
+                news.clear();
+            }
+        }
+        newsRepository.saveAll(news);
+
+        ContactRepository contactRepository = context.getBean(ContactRepository.class);
+        List<Contact> contacts = new ArrayList<>(SAVE_BATCH);
+        for (int i = 0; i < contactCount; i++) {
+            contacts.add(contact(random, i));
+            if (contacts.size() == SAVE_BATCH) {
+                contactRepository.saveAll(contacts);
+                contacts.clear();
+            }
+        }
+        contactRepository.saveAll(contacts);
+
+        context.getBean(NewsSearchIndex.class).rebuild();
+        context.getBean(ContactSearchIndex.class).rebuild();
+        return context;
+    }
+
+    static Contact contact(Random random, int i) {
+        return new Contact("사용자" + i, "user" + i + "@humanaid.digital", "회사" + (i % 50), "010-0000-0000",
+            CATEGORIES[i % CATEGORIES.length], sentence(random, 5), sentence(random, 60), true, i % 3 == 0);
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
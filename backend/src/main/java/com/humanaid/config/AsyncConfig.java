@@ -1,24 +1,48 @@
 package com.humanaid.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * 비동기 작업 실행기 설정
+ * spring.threads.virtual.enabled=true 이면 @Async 작업을 가상 스레드에서 실행하고
+ * (서블릿 요청도 Spring Boot가 Tomcat 가상 스레드 실행기로 전환), 아니면 플랫폼 스레드 풀을 사용한다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
     
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+    public Executor taskExecutor(@Value("${async.pool.core-size:2}") int coreSize,
+                                 @Value("${async.pool.max-size:5}") int maxSize,
+                                 @Value("${async.pool.queue-capacity:100}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("HumanAid-Async-");
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+    
+    /**
+     * 가상 스레드 실행기 (작업마다 가상 스레드 생성, 동시 실행 수만 제한)
+     */
+    @Bean(name = "taskExecutor")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public Executor virtualThreadTaskExecutor(@Value("${async.virtual.concurrency-limit:200}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("HumanAid-Async-");
+        executor.setVirtualThreads(true);
+        // SMTP 서버나 DB 커넥션 풀이 감당할 수 있는 수준으로 동시 실행 제한 (-1이면 제한 없음)
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.humanaid.config;
+
+import com.humanaid.service.EmailService;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.List;
+
+/**
+ * 빠른 기동 프로필(fast-start) 설정
+ * 기동 직후 필요 없는 메일 발송 빈(EmailService, JavaMailSender)을 처음 사용할 때 만든다.
+ * 주입 지점은 @Lazy 프록시이므로 빈 정의만 지연 초기화로 바꾸면 생성이 첫 사용 시점으로 미뤄진다.
+ * 전역 spring.main.lazy-initialization은 컨트롤러/리포지토리 생성까지 첫 요청으로 미루고,
+ * 지연 빈의 @Scheduled 작업은 빈이 만들어질 때까지 등록되지 않으므로 사용하지 않는다.
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    // 기동 시 만들지 않는 빈 타입
+    private static final List<Class<?>> LAZY_TYPES = List.of(EmailService.class, JavaMailSender.class);
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans() {
+        return beanFactory -> {
+            for (Class<?> type : LAZY_TYPES) {
+                for (String name : beanFactory.getBeanNamesForType(type, true, false)) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.humanaid.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA 2차 캐시 설정 (Hibernate JCache + Ehcache 3)
+ * News/Contact 엔티티와 발행 뉴스 조회 쿼리 결과를 로컬 캐시에 둔다.
+ * 엔티티 수정/삭제는 커밋 시 Hibernate가 캐시에 반영하고, 쿼리 결과는 테이블 갱신 시각으로 무효화된다.
+ */
+@Configuration
+public class JpaCacheConfig {
+
+    // 뉴스 엔티티
+    public static final String NEWS_REGION = "news";
+
+    // 문의사항 엔티티
+    public static final String CONTACT_REGION = "contacts";
+
+    // 발행된 뉴스 목록/카테고리/최신 뉴스 조회 결과
+    public static final String PUBLISHED_NEWS_QUERY_REGION = "publishedNewsQueries";
+
+    // 적중률 메트릭을 수집하는 영역
+    private static final List<String> METERED_REGIONS = List.of(
+        NEWS_REGION, CONTACT_REGION, PUBLISHED_NEWS_QUERY_REGION,
+        RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME
+    );
+
+    // 테이블별 마지막 갱신 시각은 테이블 수만큼만 저장된다
+    private static final long UPDATE_TIMESTAMPS_ENTRIES = 1000;
+
+    /**
+     * 영역별 캐시를 미리 만든 JCache 매니저
+     * 각 영역은 heap-entries 개까지 힙에 두고, offheap-mb가 0보다 크면 그 아래에 오프힙 계층을 둔다.
+     * 한 JVM에 애플리케이션 컨텍스트가 여럿 떠도(테스트) 캐시가 섞이지 않도록 컨텍스트마다 별도 매니저를 만든다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager jpaCacheManager(@Value("${jpa.cache.heap-entries:10000}") long heapEntries,
+                                        @Value("${jpa.cache.offheap-mb:0}") long offheapMb,
+                                        @Value("${jpa.cache.ttl:30m}") Duration ttl) {
+        ResourcePoolsBuilder pools = ResourcePoolsBuilder.heap(heapEntries);
+        if (offheapMb > 0) {
+            pools = pools.offheap(offheapMb, MemoryUnit.MB);
+        }
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder()
+            .withClassLoader(getClass().getClassLoader());
+        for (String region : METERED_REGIONS) {
+            configuration = configuration.withCache(region,
+                cacheConfiguration(pools.build(), ExpiryPolicyBuilder.timeToLiveExpiration(ttl)));
+        }
+        // 갱신 시각이 쿼리 결과보다 먼저 사라지면 오래된 결과를 돌려줄 수 있으므로 만료 없이 힙에만 둔다
+        configuration = configuration.withCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            cacheConfiguration(ResourcePoolsBuilder.heap(UPDATE_TIMESTAMPS_ENTRIES).build(), ExpiryPolicyBuilder.noExpiration()));
+
+        EhcacheCachingProvider provider =
+            (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("humanaid-jpa-cache:" + UUID.randomUUID()), configuration.build());
+    }
+
+    /**
+     * Hibernate가 직접 캐시 매니저를 만들지 않고 위 매니저를 사용하도록 지정
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jpaCacheManagerCustomizer(CacheManager jpaCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, jpaCacheManager);
+    }
+
+    /**
+     * 영역별 적중/미스/저장 횟수와 적중률 메트릭 (hibernate.generate_statistics 필요)
+     */
+    @Bean
+    public MeterBinder jpaCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : METERED_REGIONS) {
+                CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+                if (regionStatistics != null) {
+                    bindRegion(registry, region, regionStatistics);
+                }
+            }
+        };
+    }
+
+    private static CacheConfiguration<Object, Object> cacheConfiguration(ResourcePools pools,
+                                                                         ExpiryPolicy<Object, Object> expiry) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, pools)
+            .withExpiry(expiry)
+            .build();
+    }
+
+    private static void bindRegion(MeterRegistry registry, String region, CacheRegionStatistics stats) {
+        FunctionCounter.builder("humanaid.jpa.cache.hits", stats, CacheRegionStatistics::getHitCount)
+            .description("2차 캐시 적중 횟수")
+            .tag("region", region)
+            .register(registry);
+        FunctionCounter.builder("humanaid.jpa.cache.misses", stats, CacheRegionStatistics::getMissCount)
+            .description("2차 캐시 미스 횟수")
+            .tag("region", region)
+            .register(registry);
+        FunctionCounter.builder("humanaid.jpa.cache.puts", stats, CacheRegionStatistics::getPutCount)
+            .description("2차 캐시 저장 횟수")
+            .tag("region", region)
+            .register(registry);
+        Gauge.builder("humanaid.jpa.cache.hit.ratio", stats, JpaCacheConfig::hitRatio)
+            .description("2차 캐시 적중률 (누적)")
+            .tag("region", region)
+            .register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics stats) {
+        long hits = stats.getHitCount();
+        long total = hits + stats.getMissCount();
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
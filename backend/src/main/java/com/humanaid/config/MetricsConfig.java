@@ -0,0 +1,29 @@
+package com.humanaid.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * 컨트롤러(http.server.requests), 리포지토리(spring.data.repository.invocations), 캐시, 실행기 메트릭은
+ * Spring Boot가 자동으로 수집하고, 서비스 메서드는 @Timed로 humanaid.service 타이머에 기록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 서비스 메서드 실행 시간 (태그: class, method, exception)
+    public static final String SERVICE_TIMER = "humanaid.service";
+
+    // 메일 발송 시간 (태그: outcome)
+    public static final String MAIL_SEND_TIMER = "humanaid.mail.send";
+
+    /**
+     * @Timed 애노테이션 처리
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,108 @@
+package com.humanaid.config;
+
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기동 시 엔티티에 선언된 인덱스가 실제 DB에 있는지 확인
+ * 이름이 아니라 컬럼 구성(순서 포함)으로 비교하고, 없는 인덱스는 경고 로그로 남긴다.
+ */
+@Component
+public class SchemaIndexVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private volatile List<String> missingIndexes = List.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+                Table table = entity.getJavaType().getAnnotation(Table.class);
+                if (table == null || table.indexes().length == 0) {
+                    continue;
+                }
+                List<List<String>> existing = findIndexColumns(metaData, connection, table.name());
+                for (Index index : table.indexes()) {
+                    List<String> columns = Arrays.stream(index.columnList().split(","))
+                        .map(column -> column.trim().split("\\s+")[0].toLowerCase(Locale.ROOT))
+                        .toList();
+                    boolean present = existing.stream().anyMatch(cols -> startsWith(cols, columns));
+                    if (!present) {
+                        missing.add(table.name() + "." + index.name() + " " + columns);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("인덱스 점검 실패: {}", e.getMessage());
+            return;
+        }
+        missingIndexes = List.copyOf(missing);
+        if (missing.isEmpty()) {
+            log.info("인덱스 점검 완료: 선언된 인덱스가 모두 존재합니다.");
+        } else {
+            missing.forEach(index -> log.warn("누락된 인덱스: {}", index));
+        }
+    }
+
+    /**
+     * 마지막 점검에서 누락된 인덱스 목록 (테이블.인덱스명 [컬럼])
+     */
+    public List<String> getMissingIndexes() {
+        return missingIndexes;
+    }
+
+    private List<List<String>> findIndexColumns(DatabaseMetaData metaData, Connection connection, String table) throws Exception {
+        // 인덱스명 -> (컬럼 순번 -> 컬럼명)
+        Map<String, Map<Integer, String>> indexes = new TreeMap<>();
+        for (String candidate : new String[] { table, table.toUpperCase(Locale.ROOT) }) {
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, candidate, false, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (indexName == null || column == null) {
+                        continue;
+                    }
+                    indexes.computeIfAbsent(indexName, k -> new TreeMap<>())
+                        .put((int) rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+            if (!indexes.isEmpty()) {
+                break;
+            }
+        }
+        return indexes.values().stream().map(columns -> (List<String>) new ArrayList<>(columns.values())).toList();
+    }
+
+    private static boolean startsWith(List<String> indexColumns, List<String> expected) {
+        return indexColumns.size() >= expected.size()
+            && indexColumns.subList(0, expected.size()).equals(expected);
+    }
+}
@@ -0,0 +1,66 @@
+package com.humanaid.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 문의사항 일괄 처리/삭제 요청
+ * ids를 지정하거나, 조건(inquiryType, from, to, processed)을 하나 이상 지정한다. 두 방식은 함께 쓸 수 없다.
+ * from은 포함, to는 제외하는 접수 일시 구간이다.
+ */
+public class ContactBulkRequest {
+    
+    @Size(max = 10000, message = "한 번에 지정할 수 있는 ID는 10000개까지입니다")
+    private List<Long> ids;
+    
+    private String inquiryType;
+    
+    private LocalDateTime from;
+    
+    private LocalDateTime to;
+    
+    // 삭제 조건 전용 (처리 완료 문의만 삭제하는 등)
+    private Boolean processed;
+    
+    // 기본 생성자
+    public ContactBulkRequest() {}
+    
+    // ID 목록 생성자
+    public ContactBulkRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    // 조건 생성자
+    public ContactBulkRequest(String inquiryType, LocalDateTime from, LocalDateTime to, Boolean processed) {
+        this.inquiryType = inquiryType;
+        this.from = from;
+        this.to = to;
+        this.processed = processed;
+    }
+    
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+    
+    public boolean hasFilter() {
+        return inquiryType != null || from != null || to != null || processed != null;
+    }
+    
+    // Getters and Setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+    
+    public String getInquiryType() { return inquiryType; }
+    public void setInquiryType(String inquiryType) { this.inquiryType = inquiryType; }
+    
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+    
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+    
+    public Boolean getProcessed() { return processed; }
+    public void setProcessed(Boolean processed) { this.processed = processed; }
+}
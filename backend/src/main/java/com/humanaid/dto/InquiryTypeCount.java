@@ -0,0 +1,26 @@
+package com.humanaid.dto;
+
+/**
+ * 문의 유형별 건수
+ */
+public class InquiryTypeCount {
+
+    private String inquiryType;
+    private long count;
+
+    // 기본 생성자
+    public InquiryTypeCount() {}
+
+    // 생성자
+    public InquiryTypeCount(String inquiryType, long count) {
+        this.inquiryType = inquiryType;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public String getInquiryType() { return inquiryType; }
+    public void setInquiryType(String inquiryType) { this.inquiryType = inquiryType; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
@@ -0,0 +1,56 @@
+package com.humanaid.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 뉴스 피드 항목 (data/news-cache.json 형식)
+ * 피드의 snake_case 필드와 News 엔티티의 camelCase 필드를 모두 받는다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class NewsFeedItem {
+    
+    private String title;
+    private String summary;
+    private String content;
+    private String category;
+    private String source;
+    
+    @JsonAlias({"url", "external_url"})
+    private String externalUrl;
+    
+    @JsonAlias("image_url")
+    private String imageUrl;
+    
+    // ISO-8601 (오프셋 포함 또는 로컬 일시)
+    @JsonAlias("published_at")
+    private String publishedAt;
+    
+    // 기본 생성자
+    public NewsFeedItem() {}
+    
+    // Getters and Setters
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+    
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+    
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+    
+    public String getExternalUrl() { return externalUrl; }
+    public void setExternalUrl(String externalUrl) { this.externalUrl = externalUrl; }
+    
+    public String getImageUrl() { return imageUrl; }
+    public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+    
+    public String getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(String publishedAt) { this.publishedAt = publishedAt; }
+}
@@ -0,0 +1,36 @@
+package com.humanaid.dto;
+
+/**
+ * 뉴스 일괄 가져오기 결과
+ */
+public class NewsImportResult {
+    
+    // 피드에서 읽은 항목 수
+    private int read;
+    // 새로 저장한 뉴스 수
+    private int imported;
+    // 외부 URL이 피드 안에서 또는 DB와 중복되어 건너뛴 수
+    private int duplicates;
+    // 필수 항목(제목, 요약, 카테고리)이 없어 건너뛴 수
+    private int invalid;
+    private long elapsedMillis;
+    
+    // 기본 생성자
+    public NewsImportResult() {}
+    
+    // Getters and Setters
+    public int getRead() { return read; }
+    public void setRead(int read) { this.read = read; }
+    
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+    
+    public int getDuplicates() { return duplicates; }
+    public void setDuplicates(int duplicates) { this.duplicates = duplicates; }
+    
+    public int getInvalid() { return invalid; }
+    public void setInvalid(int invalid) { this.invalid = invalid; }
+    
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
@@ -0,0 +1,70 @@
+package com.humanaid.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 목록 항목
+ * 목록 조회는 본문(content) 없이 이 컬럼들만 SELECT 한다. 본문은 상세 조회(/news/{id})에서 내려준다.
+ */
+public class NewsSummary {
+
+    private Long id;
+    private String title;
+    private String summary;
+    private String imageUrl;
+    private String category;
+    private String source;
+    private String externalUrl;
+    private Boolean published;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public NewsSummary() {}
+
+    // 생성자 (JPQL 생성자 표현식에서 사용하므로 인자 순서를 바꾸지 말 것)
+    public NewsSummary(Long id, String title, String summary, String imageUrl, String category, String source,
+                       String externalUrl, Boolean published, LocalDateTime publishedAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.summary = summary;
+        this.imageUrl = imageUrl;
+        this.category = category;
+        this.source = source;
+        this.externalUrl = externalUrl;
+        this.published = published;
+        this.publishedAt = publishedAt;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+
+    public String getImageUrl() { return imageUrl; }
+    public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+
+    public String getExternalUrl() { return externalUrl; }
+    public void setExternalUrl(String externalUrl) { this.externalUrl = externalUrl; }
+
+    public Boolean getPublished() { return published; }
+    public void setPublished(Boolean published) { this.published = published; }
+
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
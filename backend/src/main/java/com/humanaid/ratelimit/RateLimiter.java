@@ -0,0 +1,112 @@
+package com.humanaid.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 요청 속도 제한 (GCRA 방식 토큰 버킷, 용량 capacity / period 마다 capacity개 충전)
+ * 키마다 "다음 요청이 허용되는 이론상 시각(TAT)" 하나만 있으면 되므로 고정 크기 AtomicLongArray에 담아 CAS로만 갱신한다.
+ * 키는 서로 다른 해시로 두 칸에 대응시키고(count-min 스케치) 작은 값을 그 키의 TAT로 본다.
+ * 해시 충돌은 제한을 엄격하게 만들 뿐 느슨하게 하지 않으며(반환한 토큰은 예외), 메모리는 키 수와 관계없이 long 2 x width 개로 고정된다.
+ */
+public class RateLimiter {
+
+    private static final int DEPTH = 2;
+
+    private final AtomicLongArray cells;
+    private final int width;
+    private final int mask;
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final LongSupplier clock;
+    private final long origin;
+
+    public RateLimiter(int capacity, Duration period, int width) {
+        this(capacity, period, width, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, Duration period, int width, LongSupplier clock) {
+        if (capacity <= 0 || period.isNegative() || period.isZero() || width <= 0) {
+            throw new IllegalArgumentException("속도 제한 설정이 올바르지 않습니다.");
+        }
+        // 2의 거듭제곱으로 올림 (칸 번호를 나머지 대신 비트 마스크로 계산)
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.mask = this.width - 1;
+        this.cells = new AtomicLongArray(DEPTH * this.width);
+        this.emissionInterval = Math.max(1, period.toNanos() / capacity);
+        this.burstTolerance = emissionInterval * (capacity - 1);
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    /**
+     * 요청 1건 허용 여부 확인 후 토큰 차감
+     *
+     * @return 허용이면 0, 거부면 다시 시도할 수 있을 때까지 남은 시간(나노초)
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong() - origin;
+        int hash = key.hashCode();
+        int first = mix(hash) & mask;
+        int second = width + (mix(hash ^ 0x9E3779B9) & mask);
+        while (true) {
+            long firstTat = cells.get(first);
+            long secondTat = cells.get(second);
+            int owner = firstTat <= secondTat ? first : second;
+            int other = owner == first ? second : first;
+            long tat = Math.min(firstTat, secondTat);
+            long wait = tat - burstTolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            long next = Math.max(tat, now) + emissionInterval;
+            // 작은 칸(이 키의 TAT)은 CAS로 정확히 갱신하고, 다른 칸은 더 늦은 시각으로만 올린다
+            if (cells.compareAndSet(owner, tat, next)) {
+                cells.accumulateAndGet(other, next, Math::max);
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 차감한 토큰 1개 반환 (허용했지만 결과적으로 제한 대상이 아니었던 요청)
+     * 이 키의 TAT 칸만 emissionInterval만큼 되돌리므로, 그 칸을 TAT로 쓰는 충돌 키도 최대 1건 느슨해질 수 있다.
+     */
+    public void refund(String key) {
+        long now = clock.getAsLong() - origin;
+        int hash = key.hashCode();
+        int first = mix(hash) & mask;
+        int second = width + (mix(hash ^ 0x9E3779B9) & mask);
+        while (true) {
+            long firstTat = cells.get(first);
+            long secondTat = cells.get(second);
+            int owner = firstTat <= secondTat ? first : second;
+            long tat = Math.min(firstTat, secondTat);
+            // 이미 버킷이 가득 차 있으면 되돌릴 토큰이 없다
+            if (tat <= now) {
+                return;
+            }
+            if (cells.compareAndSet(owner, tat, Math.max(tat - emissionInterval, now))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 스케치 한 행의 칸 수 (2의 거듭제곱)
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    // murmur3 fmix32: 비슷한 문자열(IP 대역 등)이 같은 칸에 몰리지 않도록 비트를 섞는다
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
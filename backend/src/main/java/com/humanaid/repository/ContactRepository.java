@@ -1,27 +1,42 @@
 package com.humanaid.repository;
 
+import com.humanaid.dto.ContactSummary;
+import com.humanaid.dto.InquiryTypeCount;
+import com.humanaid.dto.MonthlyCount;
 import com.humanaid.entity.Contact;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContactRepository extends JpaRepository<Contact, Long> {
     
-    // 처리되지 않은 문의 조회
-    List<Contact> findByProcessedFalseOrderByCreatedAtDesc();
+    // 목록 조회용 요약 컬럼 (메시지 본문, 연락처, 동의 항목 제외)
+    String SUMMARY_SELECT = "SELECT new com.humanaid.dto.ContactSummary(c.id, c.name, c.email, c.company, " +
+                            "c.inquiryType, c.subject, c.processed, c.createdAt, c.processedAt) FROM Contact c ";
+    
+    // 처리되지 않은 문의 요약 조회
+    @Query(SUMMARY_SELECT + "WHERE c.processed = false ORDER BY c.createdAt DESC")
+    List<ContactSummary> findUnprocessedSummaries();
     
     // 처리된 문의 조회
     List<Contact> findByProcessedTrueOrderByProcessedAtDesc();
     
-    // 문의 유형별 조회
-    List<Contact> findByInquiryTypeOrderByCreatedAtDesc(String inquiryType);
+    // 문의 유형별 요약 조회
+    @Query(SUMMARY_SELECT + "WHERE c.inquiryType = :inquiryType ORDER BY c.createdAt DESC")
+    List<ContactSummary> findSummariesByInquiryType(@Param("inquiryType") String inquiryType);
     
     // 날짜 범위로 조회
     List<Contact> findByCreatedAtBetweenOrderByCreatedAtDesc(LocalDateTime startDate, LocalDateTime endDate);
@@ -29,27 +44,119 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
     // 이메일로 조회
     List<Contact> findByEmailOrderByCreatedAtDesc(String email);
     
-    // 키워드 검색 (이름, 이메일, 제목, 메시지에서 검색)
-    @Query("SELECT c FROM Contact c WHERE " +
-           "LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(c.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(c.subject) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(c.message) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Contact> findByKeyword(@Param("keyword") String keyword);
+    // ID 목록으로 요약 조회 (검색 결과 조립용, 순서는 호출 측에서 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE c.id IN :ids")
+    List<ContactSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 키워드 검색 (이름, 이메일, 제목, 메시지에서 검색) - 검색 색인 준비 전 대체용
+    @Query(value = SUMMARY_SELECT + "WHERE " +
+                   "LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(c.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(c.subject) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(c.message) LIKE LOWER(CONCAT('%', :keyword, '%'))",
+           countQuery = "SELECT COUNT(c) FROM Contact c WHERE " +
+                        "LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(c.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(c.subject) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(c.message) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<ContactSummary> findSummariesByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    // 키셋 페이지네이션: 첫 페이지 (COUNT 쿼리 없음)
+    @Query(SUMMARY_SELECT + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactSummary> findFirstSummaryPageByCreatedAt(Pageable pageable);
+    
+    // 키셋 페이지네이션: 커서(createdAt, id) 이후 페이지
+    @Query(SUMMARY_SELECT + "WHERE c.createdAt < :createdAt " +
+           "OR (c.createdAt = :createdAt AND c.id < :id) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
     
-    // 페이징 처리된 전체 조회
+    // 페이징 처리된 전체 요약 조회
+    @Query(value = SUMMARY_SELECT + "ORDER BY c.createdAt DESC",
+           countQuery = "SELECT COUNT(c) FROM Contact c")
+    Page<ContactSummary> findAllSummaries(Pageable pageable);
+    
+    // 페이징 처리된 전체 조회 (검색 색인 생성용, 본문 포함)
     Page<Contact> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
     // 처리 상태별 페이징 조회
     Page<Contact> findByProcessedOrderByCreatedAtDesc(Boolean processed, Pageable pageable);
     
+    // 조건에 맞는 문의 요약 스트리밍 조회 (최신순, null 조건은 무시)
+    // 호출하는 쪽은 트랜잭션 안에서 Stream을 닫아야 한다
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + "WHERE (:inquiryType IS NULL OR c.inquiryType = :inquiryType) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) " +
+           "AND (:processed IS NULL OR c.processed = :processed) ORDER BY c.createdAt DESC")
+    Stream<ContactSummary> streamSummariesByFilter(@Param("inquiryType") String inquiryType,
+                                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                   @Param("processed") Boolean processed);
+    
+    // 내보내기용 조건별 전체 조회 (ID순 전진 전용 커서, 결과를 한 번에 메모리에 올리지 않음)
+    // 호출하는 쪽은 트랜잭션 안에서 Stream을 닫아야 한다
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Contact c WHERE (:inquiryType IS NULL OR c.inquiryType = :inquiryType) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) " +
+           "AND (:processed IS NULL OR c.processed = :processed) ORDER BY c.id")
+    Stream<Contact> streamByFilter(@Param("inquiryType") String inquiryType,
+                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                   @Param("processed") Boolean processed);
+    
+    // ID 목록으로 일괄 처리 완료 표시 (이미 처리된 문의는 처리 시각 유지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Contact c SET c.processed = true, c.processedAt = :processedAt " +
+           "WHERE c.processed = false AND c.id IN :ids")
+    int markProcessedByIds(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+    
+    // 조건으로 일괄 처리 완료 표시 (null 조건은 무시)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Contact c SET c.processed = true, c.processedAt = :processedAt " +
+           "WHERE c.processed = false AND (:inquiryType IS NULL OR c.inquiryType = :inquiryType) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to)")
+    int markProcessedByFilter(@Param("inquiryType") String inquiryType, @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to, @Param("processedAt") LocalDateTime processedAt);
+    
+    // ID 목록으로 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Contact c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+    
+    // 조건으로 일괄 삭제 (null 조건은 무시)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Contact c WHERE (:inquiryType IS NULL OR c.inquiryType = :inquiryType) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) " +
+           "AND (:processed IS NULL OR c.processed = :processed)")
+    int deleteByFilter(@Param("inquiryType") String inquiryType, @Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to, @Param("processed") Boolean processed);
+    
+    // 조건에 맞는 문의의 유형/일자별 개수 조회 (일괄 삭제 시 통계 증감용, null 조건은 무시)
+    @Query("SELECT c.inquiryType, YEAR(c.createdAt), MONTH(c.createdAt), DAY(c.createdAt), COUNT(c) FROM Contact c " +
+           "WHERE (:inquiryType IS NULL OR c.inquiryType = :inquiryType) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) " +
+           "AND (:processed IS NULL OR c.processed = :processed) " +
+           "GROUP BY c.inquiryType, YEAR(c.createdAt), MONTH(c.createdAt), DAY(c.createdAt)")
+    List<Object[]> countByTypeAndDayForFilter(@Param("inquiryType") String inquiryType, @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to, @Param("processed") Boolean processed);
+    
     // 문의 유형별 개수 조회
-    @Query("SELECT c.inquiryType, COUNT(c) FROM Contact c GROUP BY c.inquiryType")
-    List<Object[]> countByInquiryType();
+    @Query("SELECT new com.humanaid.dto.InquiryTypeCount(c.inquiryType, COUNT(c)) FROM Contact c " +
+           "GROUP BY c.inquiryType ORDER BY c.inquiryType")
+    List<InquiryTypeCount> countByInquiryType();
     
     // 월별 문의 개수 조회
-    @Query("SELECT YEAR(c.createdAt), MONTH(c.createdAt), COUNT(c) FROM Contact c " +
+    @Query("SELECT new com.humanaid.dto.MonthlyCount(YEAR(c.createdAt), MONTH(c.createdAt), COUNT(c)) FROM Contact c " +
            "WHERE c.createdAt >= :startDate GROUP BY YEAR(c.createdAt), MONTH(c.createdAt) " +
            "ORDER BY YEAR(c.createdAt), MONTH(c.createdAt)")
-    List<Object[]> countByMonth(@Param("startDate") LocalDateTime startDate);
+    List<MonthlyCount> countByMonth(@Param("startDate") LocalDateTime startDate);
+    
+    // 일자별 문의 개수 조회 (통계 재집계용)
+    @Query("SELECT YEAR(c.createdAt), MONTH(c.createdAt), DAY(c.createdAt), COUNT(c) FROM Contact c " +
+           "GROUP BY YEAR(c.createdAt), MONTH(c.createdAt), DAY(c.createdAt)")
+    List<Object[]> countByDay();
 }
\ No newline at end of file
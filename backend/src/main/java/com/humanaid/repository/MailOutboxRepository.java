@@ -0,0 +1,46 @@
+package com.humanaid.repository;
+
+import com.humanaid.entity.MailOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    
+    // 발송 시각이 된 대기 메일 (다른 인스턴스가 잡은 행은 건너뜀: SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM MailOutbox m WHERE m.status = :status AND m.nextAttemptAt <= :now " +
+           "ORDER BY m.nextAttemptAt, m.id")
+    List<MailOutbox> findDueForUpdate(@Param("status") MailOutbox.Status status, @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+    
+    // 상태별 개수
+    long countByStatus(MailOutbox.Status status);
+    
+    // 가장 오래된 대기 메일의 등록 시각
+    @Query("SELECT MIN(m.createdAt) FROM MailOutbox m WHERE m.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") MailOutbox.Status status);
+    
+    // 발송 완료 처리
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.sentAt = :sentAt, m.lastError = NULL WHERE m.id IN :ids")
+    int updateSent(@Param("ids") List<Long> ids, @Param("status") MailOutbox.Status status,
+                   @Param("sentAt") LocalDateTime sentAt);
+    
+    // 보관 기간이 지난 발송 완료 메일 삭제
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") MailOutbox.Status status, @Param("before") LocalDateTime before);
+}
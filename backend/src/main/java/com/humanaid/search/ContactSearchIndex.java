@@ -0,0 +1,127 @@
+package com.humanaid.search;
+
+import com.humanaid.entity.Contact;
+import com.humanaid.repository.ContactRepository;
+import com.humanaid.service.ContactChangedEvent;
+import com.humanaid.service.ContactsDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 문의사항 검색 색인 (관리자 검색용)
+ * 이름/제목/메시지는 토큰 단위로, 이메일은 접두어까지 색인해 "kim@", "humanaid" 같은 부분 입력도 찾는다.
+ */
+@Component
+public class ContactSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactSearchIndex.class);
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int EMAIL_WEIGHT = 3;
+    private static final int EMAIL_PREFIX_WEIGHT = 2;
+    private static final int SUBJECT_WEIGHT = 2;
+    private static final int MESSAGE_WEIGHT = 1;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 전체 문의사항으로 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ready = false;
+        index.clear();
+        try {
+            int page = 0;
+            Page<Contact> batch;
+            do {
+                batch = contactRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(page++, BUILD_BATCH_SIZE));
+                batch.forEach(this::add);
+            } while (batch.hasNext());
+            ready = true;
+            log.info("문의사항 검색 색인 생성 완료: {}건", index.size());
+        } catch (Exception e) {
+            // 색인 생성에 실패하면 DB 검색으로 대체한다
+            log.warn("문의사항 검색 색인 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 문의사항 변경이 커밋되면 해당 문의사항만 다시 색인
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactChanged(ContactChangedEvent event) {
+        if (event.getContactId() == null) {
+            return;
+        }
+        if (event.getCountDelta() < 0) {
+            // 삭제는 다시 조회할 필요 없이 색인에서만 제거 (일괄 삭제 시 건별 조회 방지)
+            index.remove(event.getContactId());
+            return;
+        }
+        Optional<Contact> contact = contactRepository.findById(event.getContactId());
+        if (contact.isPresent()) {
+            add(contact.get());
+        } else {
+            index.remove(event.getContactId());
+        }
+    }
+
+    /**
+     * 조건 일괄 삭제가 커밋되면 색인을 다시 생성
+     * 삭제된 문의 ID를 모으지 않으므로(건수와 무관한 메모리) 남은 문의로 다시 만든다. 그동안 검색은 DB 검색으로 대체된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactsDeleted(ContactsDeletedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 검색어와 일치하는 문의사항 ID 중 요청한 구간 (관련도순)
+     */
+    public SearchHits search(String keyword, int offset, int limit) {
+        return index.search(keyword, offset, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void add(Contact contact) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTokens(terms, contact.getName(), NAME_WEIGHT);
+        addTokens(terms, contact.getSubject(), SUBJECT_WEIGHT);
+        addTokens(terms, contact.getMessage(), MESSAGE_WEIGHT);
+        for (String token : NgramTokenizer.tokenize(contact.getEmail())) {
+            terms.merge(token, EMAIL_WEIGHT, Integer::sum);
+            for (int length = MIN_PREFIX_LENGTH; length < token.length(); length++) {
+                terms.merge(token.substring(0, length), EMAIL_PREFIX_WEIGHT, Math::max);
+            }
+        }
+        index.index(contact.getId(), terms);
+    }
+
+    private static void addTokens(Map<String, Integer> terms, String text, int weight) {
+        for (String token : NgramTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.humanaid.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (토큰 -> 문서 ID -> 가중 빈도)
+ * 문서 본문은 보관하지 않고 ID와 점수 계산에 필요한 값만 유지한다.
+ * 부분 일치 검색을 위해 토큰의 모든 접미사를 정렬된 맵에 두고, 검색어로 시작하는 접미사 범위만 조회한다.
+ */
+public class InvertedIndex {
+
+    // 부분 일치(검색어가 색인 토큰의 일부)일 때 가중치 비율
+    private static final double PARTIAL_MATCH_FACTOR = 0.5;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    // 접미사 -> 그 접미사로 끝나는 토큰 (토큰이 검색어를 포함 = 어떤 접미사가 검색어로 시작)
+    private final TreeMap<String, Set<String>> suffixes = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 색인 (기존 색인은 교체)
+     * fields와 weights는 같은 순서로 전달한다. 예: 제목 가중치 3, 본문 가중치 1
+     */
+    public void index(Long id, String[] fields, int[] weights) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        for (int f = 0; f < fields.length; f++) {
+            for (String token : NgramTokenizer.tokenize(fields[f])) {
+                termWeights.merge(token, weights[f], Integer::sum);
+            }
+        }
+        index(id, termWeights);
+    }
+
+    /**
+     * 토큰별 가중치를 직접 지정해 문서 색인 (기존 색인은 교체)
+     */
+    public void index(Long id, Map<String, Integer> termWeights) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            for (Map.Entry<String, Integer> entry : termWeights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), this::newTerm).put(id, entry.getValue());
+            }
+            documentTerms.put(id, termWeights.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 색인 제거
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 비우기
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+            suffixes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 문서 ID를 점수순(동점이면 최신 ID순)으로 반환
+     * 한 글자 한글, 영문/숫자 토큰은 그 토큰을 포함하는 색인 토큰과도 맞는다 (기존 LIKE 검색과 같은 범위, 정확히 일치하면 점수가 더 높음).
+     */
+    public List<Long> search(String query) {
+        return search(query, 0, Integer.MAX_VALUE).getIds();
+    }
+
+    /**
+     * 검색 결과 중 offset부터 limit개만 반환
+     * 전체 결과를 정렬하지 않고 offset + limit 크기의 힙으로 상위 문서만 유지한다.
+     */
+    public SearchHits search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(NgramTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return SearchHits.empty();
+        }
+        int capacity = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        // 점수가 낮은(동점이면 오래된) 문서가 먼저 나오는 최소 힙
+        Comparator<ScoredId> ascending = Comparator.comparingDouble((ScoredId hit) -> hit.score)
+            .thenComparingLong(hit -> hit.id);
+        PriorityQueue<ScoredId> top = new PriorityQueue<>(ascending);
+        int total = 0;
+        lock.readLock().lock();
+        try {
+            List<Map<Long, ? extends Number>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, ? extends Number> docs = matchingDocuments(term);
+                if (docs.isEmpty()) {
+                    return SearchHits.empty();
+                }
+                termPostings.add(docs);
+            }
+            // 가장 짧은 포스팅 목록부터 교집합을 구한다
+            termPostings.sort(Comparator.comparingInt(Map::size));
+            int documentCount = documentTerms.size();
+            for (Long id : termPostings.get(0).keySet()) {
+                double score = 0;
+                boolean matched = true;
+                for (Map<Long, ? extends Number> docs : termPostings) {
+                    Number weight = docs.get(id);
+                    if (weight == null) {
+                        matched = false;
+                        break;
+                    }
+                    score += weight.doubleValue() * Math.log(1.0 + (double) documentCount / docs.size());
+                }
+                if (!matched) {
+                    continue;
+                }
+                total++;
+                ScoredId hit = new ScoredId(id, score);
+                if (top.size() < capacity) {
+                    top.add(hit);
+                } else if (ascending.compare(hit, top.peek()) > 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ids.add(top.poll().id);
+        }
+        Collections.reverse(ids);
+        List<Long> page = offset >= ids.size() ? Collections.emptyList() : ids.subList(offset, ids.size());
+        return new SearchHits(page, total);
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어 토큰과 맞는 문서별 가중치 (읽기 잠금 안에서 호출)
+    private Map<Long, ? extends Number> matchingDocuments(String term) {
+        Map<Long, Integer> exact = postings.getOrDefault(term, Collections.emptyMap());
+        if (!NgramTokenizer.isPartialMatchToken(term)) {
+            return exact;
+        }
+        Map<Long, Double> docs = new HashMap<>();
+        exact.forEach((id, weight) -> docs.put(id, (double) weight));
+        // 검색어로 시작하는 접미사 범위만 훑어 검색어를 포함하는 더 긴 토큰을 찾는다
+        Set<String> visited = new HashSet<>();
+        for (Set<String> terms : suffixes.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+            for (String indexed : terms) {
+                if (!indexed.equals(term) && visited.add(indexed)) {
+                    postings.get(indexed).forEach((id, weight) -> docs.merge(id, weight * PARTIAL_MATCH_FACTOR, Math::max));
+                }
+            }
+        }
+        return docs;
+    }
+
+    // 새 토큰의 포스팅 목록 생성과 접미사 등록
+    private Map<Long, Integer> newTerm(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            suffixes.computeIfAbsent(term.substring(i), k -> new HashSet<>()).add(term);
+        }
+        return new HashMap<>();
+    }
+
+    private void removeTerm(String term) {
+        postings.remove(term);
+        for (int i = 0; i < term.length(); i++) {
+            String suffix = term.substring(i);
+            Set<String> terms = suffixes.get(suffix);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    suffixes.remove(suffix);
+                }
+            }
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Set<String> terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    removeTerm(term);
+                }
+            }
+        }
+    }
+
+    private record ScoredId(long id, double score) {}
+}
@@ -0,0 +1,28 @@
+package com.humanaid.search;
+
+/**
+ * 색인 대상 뉴스 텍스트 (제목, 요약, 본문)
+ * News.content가 지연 로딩이므로 색인 시에는 엔티티 대신 필요한 컬럼만 한 번에 조회한다.
+ */
+public class NewsDocument {
+
+    private final Long id;
+    private final String title;
+    private final String summary;
+    private final String content;
+
+    public NewsDocument(Long id, String title, String summary, String content) {
+        this.id = id;
+        this.title = title;
+        this.summary = summary;
+        this.content = content;
+    }
+
+    public Long getId() { return id; }
+
+    public String getTitle() { return title; }
+
+    public String getSummary() { return summary; }
+
+    public String getContent() { return content; }
+}
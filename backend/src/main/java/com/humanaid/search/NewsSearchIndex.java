@@ -0,0 +1,120 @@
+package com.humanaid.search;
+
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.service.NewsChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 발행된 뉴스 검색 색인
+ * 기동 시 news 테이블에서 만들고, 이후에는 NewsService의 변경 이벤트로 갱신한다.
+ * 다른 인스턴스의 변경은 PublishedNewsReconciler가 색인을 다시 만들어 반영한다.
+ */
+@Component
+public class NewsSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsSearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    private volatile boolean ready = false;
+
+    // 색인을 새로 만드는 동안 변경된 뉴스 ID (새 색인으로 바꾼 뒤 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding = false;
+
+    /**
+     * 발행된 뉴스 전체로 색인 생성
+     * 새 색인을 따로 만든 뒤 교체하므로 다시 만드는 동안에도 기존 색인으로 검색한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            InvertedIndex rebuilt = new InvertedIndex();
+            int page = 0;
+            Page<NewsDocument> batch;
+            do {
+                batch = newsRepository.findPublishedDocuments(PageRequest.of(page++, BUILD_BATCH_SIZE));
+                batch.forEach(document -> add(rebuilt, document));
+            } while (batch.hasNext());
+            index = rebuilt;
+            rebuilding = false;
+            for (Long id : changedDuringRebuild) {
+                reindex(id);
+            }
+            ready = true;
+            log.info("뉴스 검색 색인 생성 완료: {}건", rebuilt.size());
+        } catch (Exception e) {
+            // 색인 생성에 실패하면 기존 색인(처음이면 DB 검색)으로 대체한다
+            log.warn("뉴스 검색 색인 생성 실패: {}", e.getMessage());
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+    }
+
+    /**
+     * 뉴스 변경이 커밋되면 해당 뉴스만 다시 색인
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (event.getNewsId() == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getNewsId());
+        }
+        reindex(event.getNewsId());
+    }
+
+    /**
+     * 검색어와 일치하는 뉴스 ID 중 요청한 구간 (관련도순)
+     */
+    public SearchHits search(String keyword, int offset, int limit) {
+        return index.search(keyword, offset, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private void reindex(Long id) {
+        Optional<NewsDocument> document = newsRepository.findPublishedDocument(id);
+        if (document.isPresent()) {
+            add(index, document.get());
+        } else {
+            index.remove(id);
+        }
+    }
+
+    private static void add(InvertedIndex index, NewsDocument document) {
+        index.index(document.getId(),
+            new String[] { document.getTitle(), document.getSummary(), document.getContent() },
+            new int[] { TITLE_WEIGHT, SUMMARY_WEIGHT, CONTENT_WEIGHT });
+    }
+}
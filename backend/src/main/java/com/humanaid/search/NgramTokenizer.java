@@ -0,0 +1,72 @@
+package com.humanaid.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 토크나이저
+ * 한글 연속 구간은 2-gram으로, 영문/숫자는 소문자 단어 단위로 분리한다.
+ * (형태소 분석 없이도 "의료진단" 검색이 "AI 의료 진단 시스템"의 바이그램과 맞도록 하기 위함)
+ * 한 글자 한글, 영문/숫자 검색어는 색인 토큰의 일부와도 맞도록 InvertedIndex가 부분 일치로 찾는다.
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {}
+
+    /**
+     * 텍스트를 색인 토큰 목록으로 변환 (중복 포함, 빈도 계산용)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            char c = lower.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(lower.charAt(i))) {
+                    i++;
+                }
+                addHangulBigrams(lower, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(lower.charAt(i)) && !isHangul(lower.charAt(i))) {
+                    i++;
+                }
+                tokens.add(lower.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰이 색인 토큰의 일부와도 맞아야 하는지 여부
+     * 한 글자 한글("진" -> "진단")과 영문/숫자 단어("develop" -> "development")가 해당하고,
+     * 한글 바이그램은 색인 토큰과 길이가 같아 정확히 일치할 때만 맞는다.
+     */
+    public static boolean isPartialMatchToken(String token) {
+        return token.length() == 1 || !isHangul(token.charAt(0));
+    }
+
+    private static void addHangulBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int j = start; j + 1 < end; j++) {
+            tokens.add(text.substring(j, j + 2));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣')
+            || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+}
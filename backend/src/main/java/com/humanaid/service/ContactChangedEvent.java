@@ -0,0 +1,31 @@
+package com.humanaid.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문의사항 변경 이벤트
+ * ContactService의 등록/삭제 시 발행된다.
+ */
+public class ContactChangedEvent {
+
+    private final Long contactId;
+    private final String inquiryType;
+    private final LocalDateTime createdAt;
+    private final int countDelta;
+
+    public ContactChangedEvent(Long contactId, String inquiryType, LocalDateTime createdAt, int countDelta) {
+        this.contactId = contactId;
+        this.inquiryType = inquiryType;
+        this.createdAt = createdAt;
+        this.countDelta = countDelta;
+    }
+
+    public Long getContactId() { return contactId; }
+
+    public String getInquiryType() { return inquiryType; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    // 문의 건수 증감 (등록 +1, 삭제 -1, 그 외 0)
+    public int getCountDelta() { return countDelta; }
+}
@@ -0,0 +1,195 @@
+package com.humanaid.service;
+
+import com.humanaid.dto.ContactRequest;
+import com.humanaid.entity.Contact;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문의 중복 등록 감지 (더블클릭, 같은 내용 재전송, 같은 Idempotency-Key 재시도)
+ * 이메일+제목+메시지(그리고 Idempotency-Key)의 64비트 지문을 최근 window 동안 기억한다.
+ * 지문은 현재/이전 두 세대의 해시 맵에 보관하고 window마다(또는 세대가 max-entries에 차면) 세대를 넘겨
+ * 오래된 지문을 통째로 버리므로, 메모리는 최대 2 x max-entries 건으로 제한된다.
+ * 블룸 필터와 달리 거짓 양성이 사실상 없어(64비트 지문) 정상 문의를 중복으로 잘못 버리지 않는다.
+ */
+@Component
+public class ContactDuplicateDetector {
+    
+    private final Duration window;
+    private final int maxEntries;
+    
+    private volatile Generation current;
+    private volatile Generation previous;
+    
+    public ContactDuplicateDetector(@Value("${contact.dedupe.window:10m}") Duration window,
+                                    @Value("${contact.dedupe.max-entries:100000}") int maxEntries) {
+        this.window = window;
+        this.maxEntries = maxEntries;
+        this.current = new Generation(System.nanoTime());
+        this.previous = new Generation(current.startedAt);
+    }
+    
+    /**
+     * 요청의 지문 목록 (내용 지문, Idempotency-Key가 있으면 키 지문 추가)
+     * 키 지문은 이메일 범위로 만들어 다른 사용자의 같은 키와 섞이지 않게 한다.
+     */
+    public List<Long> fingerprints(ContactRequest request, String idempotencyKey) {
+        String email = normalize(request.getEmail()).toLowerCase(Locale.ROOT);
+        List<Long> fingerprints = new ArrayList<>(2);
+        fingerprints.add(fingerprint("content", email, normalize(request.getSubject()), normalize(request.getMessage())));
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            fingerprints.add(fingerprint("key", email, idempotencyKey.strip()));
+        }
+        return fingerprints;
+    }
+    
+    /**
+     * 지문 선점
+     * 처음 보는 지문이면 모두 처리 중으로 등록하고 null을, 이미 본 지문이 있으면 선점 없이 그 등록 정보를 반환한다.
+     */
+    public Submission claim(List<Long> fingerprints) {
+        long now = System.nanoTime();
+        Generation generation = currentGeneration(now);
+        List<Long> claimed = new ArrayList<>(fingerprints.size());
+        for (Long fingerprint : fingerprints) {
+            Submission existing = find(fingerprint, now);
+            if (existing == null) {
+                existing = generation.entries.putIfAbsent(fingerprint, Submission.pending(now));
+            }
+            if (existing != null) {
+                claimed.forEach(generation.entries::remove);
+                return existing;
+            }
+            claimed.add(fingerprint);
+        }
+        return null;
+    }
+    
+    /**
+     * 선점한 지문에 저장된 문의 기록
+     * 트랜잭션 안이면 커밋 후에 기록하고, 롤백되면 선점을 풀어 다시 등록할 수 있게 한다.
+     */
+    public void complete(List<Long> fingerprints, Contact contact) {
+        Submission submission = new Submission(contact.getId(), contact.getCreatedAt(), System.nanoTime());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(fingerprints, submission);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    put(fingerprints, submission);
+                } else {
+                    release(fingerprints);
+                }
+            }
+        });
+    }
+    
+    /**
+     * 선점 해제 (저장 실패 시)
+     */
+    public void release(List<Long> fingerprints) {
+        for (Long fingerprint : fingerprints) {
+            current.entries.remove(fingerprint);
+            previous.entries.remove(fingerprint);
+        }
+    }
+    
+    /**
+     * 기억하고 있는 지문 수
+     */
+    public int size() {
+        return current.entries.size() + previous.entries.size();
+    }
+    
+    private void put(List<Long> fingerprints, Submission submission) {
+        Generation generation = currentGeneration(submission.recordedAt);
+        for (Long fingerprint : fingerprints) {
+            previous.entries.remove(fingerprint);
+            generation.entries.put(fingerprint, submission);
+        }
+    }
+    
+    private Submission find(Long fingerprint, long now) {
+        for (Generation generation : new Generation[] { current, previous }) {
+            Submission submission = generation.entries.get(fingerprint);
+            if (submission != null && now - submission.recordedAt < window.toNanos()) {
+                return submission;
+            }
+        }
+        return null;
+    }
+    
+    // window가 지났거나 현재 세대가 가득 차면 세대를 넘긴다 (이전 세대는 버림)
+    private Generation currentGeneration(long now) {
+        Generation generation = current;
+        if (now - generation.startedAt < window.toNanos() && generation.entries.size() < maxEntries) {
+            return generation;
+        }
+        synchronized (this) {
+            generation = current;
+            if (now - generation.startedAt >= window.toNanos() || generation.entries.size() >= maxEntries) {
+                previous = generation;
+                current = new Generation(now);
+            }
+            return current;
+        }
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip();
+    }
+    
+    private static long fingerprint(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static final class Generation {
+        
+        private final long startedAt;
+        private final Map<Long, Submission> entries = new ConcurrentHashMap<>();
+        
+        private Generation(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+    
+    /**
+     * 먼저 등록된 문의 (contactId가 null이면 아직 저장 중)
+     */
+    public record Submission(Long contactId, LocalDateTime createdAt, long recordedAt) {
+        
+        static Submission pending(long now) {
+            return new Submission(null, null, now);
+        }
+        
+        public boolean isPending() {
+            return contactId == null;
+        }
+    }
+}
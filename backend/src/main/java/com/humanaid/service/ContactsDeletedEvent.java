@@ -0,0 +1,24 @@
+package com.humanaid.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 조건 일괄 삭제 이벤트
+ * 삭제된 문의를 건별로 발행하지 않고 문의 유형/접수 일자별 삭제 건수만 한 번에 전달한다.
+ */
+public class ContactsDeletedEvent {
+
+    private final List<DeletedCount> counts;
+
+    public ContactsDeletedEvent(List<DeletedCount> counts) {
+        this.counts = List.copyOf(counts);
+    }
+
+    public List<DeletedCount> getCounts() { return counts; }
+
+    /**
+     * 문의 유형/접수 일자별 삭제 건수
+     */
+    public record DeletedCount(String inquiryType, LocalDate day, long count) {}
+}
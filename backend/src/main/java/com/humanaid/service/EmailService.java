@@ -1,16 +1,25 @@
 package com.humanaid.service;
 
+import com.humanaid.config.MetricsConfig;
 import com.humanaid.entity.Contact;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @Service
 public class EmailService {
     
+    private static final Logger log = LoggerFactory.getLogger(EmailService.class);
+    
+    @Lazy
     @Autowired
     private JavaMailSender mailSender;
     
@@ -19,42 +28,50 @@ public class EmailService {
     
     /**
      * 문의사항 접수 알림 이메일 발송 (관리자용)
+     * 문의 등록 시에는 buildContactNotification으로 만든 메일을 아웃박스에 저장해 발송한다.
      */
     @Async
     public void sendContactNotification(Contact contact) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo("contact@humanaid.digital"); // 관리자 이메일
-            message.setSubject("[Human.Ai.D] 새로운 문의사항이 접수되었습니다");
-            
-            StringBuilder content = new StringBuilder();
-            content.append("새로운 문의사항이 접수되었습니다.\n\n");
-            content.append("=== 문의 정보 ===\n");
-            content.append("문의 ID: ").append(contact.getId()).append("\n");
-            content.append("이름: ").append(contact.getName()).append("\n");
-            content.append("이메일: ").append(contact.getEmail()).append("\n");
-            content.append("회사: ").append(contact.getCompany() != null ? contact.getCompany() : "미입력").append("\n");
-            content.append("연락처: ").append(contact.getPhone() != null ? contact.getPhone() : "미입력").append("\n");
-            content.append("문의 유형: ").append(contact.getInquiryType()).append("\n");
-            content.append("제목: ").append(contact.getSubject()).append("\n");
-            content.append("접수 시간: ").append(contact.getCreatedAt()).append("\n\n");
-            content.append("=== 문의 내용 ===\n");
-            content.append(contact.getMessage()).append("\n\n");
-            content.append("=== 동의 사항 ===\n");
-            content.append("개인정보처리방침 동의: ").append(contact.getPrivacyAgree() ? "동의" : "미동의").append("\n");
-            content.append("마케팅 정보 수신 동의: ").append(contact.getMarketingAgree() ? "동의" : "미동의").append("\n\n");
-            content.append("관리자 페이지에서 확인하세요: http://localhost:8080/admin");
-            
-            message.setText(content.toString());
-            mailSender.send(message);
+            mailSender.send(buildContactNotification(contact));
             
         } catch (Exception e) {
-            System.err.println("관리자 알림 이메일 발송 실패: " + e.getMessage());
+            log.error("관리자 알림 이메일 발송 실패: {}", e.getMessage());
             throw e;
         }
     }
     
+    /**
+     * 문의사항 접수 알림 이메일 작성 (관리자용)
+     */
+    public SimpleMailMessage buildContactNotification(Contact contact) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromEmail);
+        message.setTo("contact@humanaid.digital"); // 관리자 이메일
+        message.setSubject("[Human.Ai.D] 새로운 문의사항이 접수되었습니다");
+        
+        StringBuilder content = new StringBuilder();
+        content.append("새로운 문의사항이 접수되었습니다.\n\n");
+        content.append("=== 문의 정보 ===\n");
+        content.append("문의 ID: ").append(contact.getId()).append("\n");
+        content.append("이름: ").append(contact.getName()).append("\n");
+        content.append("이메일: ").append(contact.getEmail()).append("\n");
+        content.append("회사: ").append(contact.getCompany() != null ? contact.getCompany() : "미입력").append("\n");
+        content.append("연락처: ").append(contact.getPhone() != null ? contact.getPhone() : "미입력").append("\n");
+        content.append("문의 유형: ").append(contact.getInquiryType()).append("\n");
+        content.append("제목: ").append(contact.getSubject()).append("\n");
+        content.append("접수 시간: ").append(contact.getCreatedAt()).append("\n\n");
+        content.append("=== 문의 내용 ===\n");
+        content.append(contact.getMessage()).append("\n\n");
+        content.append("=== 동의 사항 ===\n");
+        content.append("개인정보처리방침 동의: ").append(Boolean.TRUE.equals(contact.getPrivacyAgree()) ? "동의" : "미동의").append("\n");
+        content.append("마케팅 정보 수신 동의: ").append(Boolean.TRUE.equals(contact.getMarketingAgree()) ? "동의" : "미동의").append("\n\n");
+        content.append("관리자 페이지에서 확인하세요: http://localhost:8080/admin");
+        
+        message.setText(content.toString());
+        return message;
+    }
+    
     /**
      * 문의자에게 접수 확인 이메일 발송
      */
@@ -87,7 +104,7 @@ public class EmailService {
             mailSender.send(message);
             
         } catch (Exception e) {
-            System.err.println("고객 확인 이메일 발송 실패: " + e.getMessage());
+            log.warn("고객 확인 이메일 발송 실패: {}", e.getMessage());
             // 고객 확인 이메일 실패는 로그만 남기고 예외를 던지지 않음
         }
     }
@@ -106,7 +123,7 @@ public class EmailService {
             mailSender.send(message);
             
         } catch (Exception e) {
-            System.err.println("이메일 발송 실패: " + e.getMessage());
+            log.error("이메일 발송 실패: {}", e.getMessage());
             throw e;
         }
     }
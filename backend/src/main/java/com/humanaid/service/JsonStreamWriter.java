@@ -0,0 +1,80 @@
+package com.humanaid.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 목록 조회 결과를 DB 커서에서 읽는 대로 응답에 기록 (JSON 배열 / NDJSON)
+ * JSON 형식은 ApiResponse와 같은 구조({success, message, data: [...], timestamp})로 data 배열 원소를 하나씩 쓴다.
+ * NDJSON은 한 줄에 한 원소를 쓰며, 스트리밍 조회와 문의 내보내기(ContactExportService)가 함께 사용한다.
+ * 첫 원소를 쓴 직후 한 번 flush 해서, 결과 건수와 관계없이 첫 바이트가 바로 나가도록 한다.
+ */
+@Component
+public class JsonStreamWriter {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Stream의 원소를 출력 스트림에 기록 (Stream은 호출하는 쪽 트랜잭션 안에서 열고 닫는다)
+     *
+     * @return 기록한 건수
+     */
+    public long write(Stream<?> rows, StreamFormat format, String message, OutputStream out) throws IOException {
+        return write(rows.iterator(), format, message, row -> {}, out);
+    }
+
+    /**
+     * 원소를 출력 스트림에 기록하고, 원소마다 기록한 뒤 afterWrite를 호출 (예: 영속성 컨텍스트에서 분리)
+     *
+     * @return 기록한 건수
+     */
+    public <T> long write(Iterator<T> rows, StreamFormat format, String message, Consumer<? super T> afterWrite,
+                          OutputStream out) throws IOException {
+        if (format != StreamFormat.JSON && format != StreamFormat.NDJSON) {
+            throw new IllegalArgumentException("JSON 스트리밍을 지원하지 않는 형식입니다: " + format);
+        }
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        if (format == StreamFormat.JSON) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", message);
+            generator.writeArrayFieldStart("data");
+        }
+        long count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            writer.writeValue(generator, row);
+            afterWrite.accept(row);
+            if (format == StreamFormat.NDJSON) {
+                generator.writeRaw('\n');
+            }
+            if (++count == 1) {
+                generator.flush();
+            }
+        }
+        if (format == StreamFormat.JSON) {
+            generator.writeEndArray();
+            generator.writeFieldName("timestamp");
+            writer.writeValue(generator, LocalDateTime.now());
+            generator.writeEndObject();
+        }
+        generator.close();
+        return count;
+    }
+}
@@ -0,0 +1,154 @@
+package com.humanaid.service;
+
+import com.humanaid.config.MetricsConfig;
+import com.humanaid.entity.MailOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 아웃박스 디스패처
+ * 대기 메일을 묶음으로 가져와 JavaMailSender.send(SimpleMailMessage...) 한 번으로 발송한다.
+ * (JavaMailSenderImpl은 한 번의 호출 안에서 SMTP 연결 하나를 재사용한다)
+ */
+@Component
+@ConditionalOnProperty(name = "mail.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class MailOutboxDispatcher {
+    
+    private static final Logger log = LoggerFactory.getLogger(MailOutboxDispatcher.class);
+    
+    @Autowired
+    private MailOutboxService mailOutboxService;
+    
+    @Lazy
+    @Autowired
+    private JavaMailSender mailSender;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+    
+    @Value("${mail.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+    
+    @Value("${mail.outbox.retention-days:7}")
+    private int retentionDays;
+    
+    /**
+     * 주기적으로 대기 메일 발송 (묶음이 가득 차면 적체가 풀릴 때까지 이어서 발송)
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (dispatchBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * 대기 메일 한 묶음 발송, 처리한 건수 반환
+     */
+    public int dispatchBatch() {
+        List<MailOutbox> batch;
+        try {
+            batch = mailOutboxService.claimBatch(batchSize);
+        } catch (Exception e) {
+            log.warn("메일 아웃박스 조회 실패: {}", e.getMessage());
+            return 0;
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        List<SimpleMailMessage> messages = new ArrayList<>(batch.size());
+        for (MailOutbox entry : batch) {
+            messages.add(toMessage(entry));
+        }
+        
+        long start = System.nanoTime();
+        Map<Object, Exception> failedMessages = Map.of();
+        MailException batchError = null;
+        try {
+            mailSender.send(messages.toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            batchError = e;
+        } catch (MailException e) {
+            batchError = e;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        Timer.builder(MetricsConfig.MAIL_SEND_TIMER)
+            .description("SMTP 묶음 발송 시간")
+            .tag("outcome", batchError == null ? "success" : "failure")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        
+        List<Long> sentIds = new ArrayList<>();
+        Map<Long, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Long id = batch.get(i).getId();
+            if (batchError == null) {
+                sentIds.add(id);
+            } else if (failedMessages.isEmpty()) {
+                // 메시지별 실패 정보가 없으면(인증 실패 등) 묶음 전체를 실패로 본다
+                failures.put(id, batchError.getMessage());
+            } else if (failedMessages.containsKey(messages.get(i))) {
+                failures.put(id, failedMessages.get(messages.get(i)).getMessage());
+            } else {
+                sentIds.add(id);
+            }
+        }
+        mailOutboxService.recordResult(sentIds, failures, elapsedMillis);
+        
+        if (!failures.isEmpty()) {
+            log.warn("메일 발송 실패 {}건 (성공 {}건): {}", failures.size(), sentIds.size(),
+                batchError != null ? batchError.getMessage() : "");
+        } else {
+            log.debug("메일 {}건 발송 ({}ms)", sentIds.size(), elapsedMillis);
+        }
+        return batch.size();
+    }
+    
+    /**
+     * 보관 기간이 지난 발송 완료 메일 정리
+     */
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        int deleted = mailOutboxService.purgeSentBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("발송 완료 메일 {}건 정리", deleted);
+        }
+    }
+    
+    private SimpleMailMessage toMessage(MailOutbox entry) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(entry.getSender());
+        message.setTo(entry.getRecipient());
+        message.setSubject(entry.getSubject());
+        message.setText(entry.getBody());
+        return message;
+    }
+}
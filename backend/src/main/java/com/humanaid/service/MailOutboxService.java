@@ -0,0 +1,170 @@
+package com.humanaid.service;
+
+import com.humanaid.config.MetricsConfig;
+import com.humanaid.dto.MailOutboxStats;
+import com.humanaid.entity.MailOutbox;
+import com.humanaid.repository.MailOutboxRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 아웃박스 관리
+ * 메일은 호출한 쪽의 트랜잭션 안에서 아웃박스에 저장되므로, 업무 데이터가 롤백되면 메일도 남지 않는다.
+ */
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Service
+@Transactional
+public class MailOutboxService implements MeterBinder {
+    
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    
+    @Value("${mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+    
+    @Value("${mail.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+    
+    @Value("${mail.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+    
+    @Value("${mail.outbox.lease:5m}")
+    private Duration lease;
+    
+    // 기동 이후 발송 통계
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedAttemptCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastBatchMillis;
+    private volatile LocalDateTime lastDispatchAt;
+    
+    /**
+     * 메일을 아웃박스에 저장 (수신자별 1건)
+     */
+    public List<MailOutbox> enqueue(SimpleMailMessage message) {
+        List<MailOutbox> entries = new ArrayList<>();
+        if (message.getTo() == null) {
+            return entries;
+        }
+        for (String recipient : message.getTo()) {
+            entries.add(new MailOutbox(message.getFrom(), recipient, message.getSubject(), message.getText()));
+        }
+        return mailOutboxRepository.saveAll(entries);
+    }
+    
+    /**
+     * 발송할 메일을 최대 batchSize건 가져와 선점
+     * 선점한 메일은 lease 동안 다른 디스패처가 가져가지 않으며, 그 안에 결과가 기록되지 않으면 다시 대상이 된다.
+     */
+    public List<MailOutbox> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> batch = mailOutboxRepository.findDueForUpdate(
+            MailOutbox.Status.PENDING, now, PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plus(lease);
+        for (MailOutbox entry : batch) {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setNextAttemptAt(leaseUntil);
+        }
+        return batch;
+    }
+    
+    /**
+     * 발송 결과 기록 (failures: 아웃박스 ID -> 오류 메시지)
+     */
+    public void recordResult(List<Long> sentIds, Map<Long, String> failures, long elapsedMillis) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.updateSent(sentIds, MailOutbox.Status.SENT, now);
+        }
+        failures.forEach((id, error) -> markFailed(id, error, now));
+        sentCount.addAndGet(sentIds.size());
+        failedAttemptCount.addAndGet(failures.size());
+        batchCount.incrementAndGet();
+        lastBatchSize = sentIds.size() + failures.size();
+        lastBatchMillis = elapsedMillis;
+        lastDispatchAt = now;
+    }
+    
+    /**
+     * 보관 기간이 지난 발송 완료 메일 삭제
+     */
+    public int purgeSentBefore(LocalDateTime before) {
+        return mailOutboxRepository.deleteByStatusAndSentAtBefore(MailOutbox.Status.SENT, before);
+    }
+    
+    /**
+     * 아웃박스 적체량과 발송 통계
+     */
+    @Transactional(readOnly = true)
+    public MailOutboxStats getStats() {
+        MailOutboxStats stats = new MailOutboxStats();
+        stats.setPending(mailOutboxRepository.countByStatus(MailOutbox.Status.PENDING));
+        stats.setFailed(mailOutboxRepository.countByStatus(MailOutbox.Status.FAILED));
+        stats.setOldestPendingAt(mailOutboxRepository.findOldestCreatedAt(MailOutbox.Status.PENDING));
+        stats.setSentSinceStart(sentCount.get());
+        stats.setFailedAttemptsSinceStart(failedAttemptCount.get());
+        stats.setBatchesSinceStart(batchCount.get());
+        stats.setLastBatchSize(lastBatchSize);
+        stats.setLastBatchMillis(lastBatchMillis);
+        stats.setLastDispatchAt(lastDispatchAt);
+        return stats;
+    }
+    
+    /**
+     * 아웃박스 적체량(대기 건수)과 발송/실패 누계 메트릭 등록
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("humanaid.mail.outbox.pending", mailOutboxRepository,
+                repository -> repository.countByStatus(MailOutbox.Status.PENDING))
+            .description("발송 대기 중인 메일 수")
+            .register(registry);
+        FunctionCounter.builder("humanaid.mail.outbox.sent", sentCount, AtomicLong::get)
+            .description("발송 완료된 메일 수")
+            .register(registry);
+        FunctionCounter.builder("humanaid.mail.outbox.failed.attempts", failedAttemptCount, AtomicLong::get)
+            .description("실패한 발송 시도 수")
+            .register(registry);
+    }
+    
+    /**
+     * 재시도 간격: initialBackoff * 2^(시도 횟수 - 1), 최대 maxBackoff
+     */
+    Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+    
+    private void markFailed(Long id, String error, LocalDateTime now) {
+        MailOutbox managed = mailOutboxRepository.findById(id).orElse(null);
+        if (managed == null) {
+            return;
+        }
+        managed.setLastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (managed.getAttempts() >= maxAttempts) {
+            managed.setStatus(MailOutbox.Status.FAILED);
+        } else {
+            managed.setNextAttemptAt(now.plus(backoff(managed.getAttempts())));
+        }
+    }
+}
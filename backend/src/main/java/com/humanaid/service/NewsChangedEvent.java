@@ -0,0 +1,57 @@
+package com.humanaid.service;
+
+import com.humanaid.entity.News;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 뉴스 변경 이벤트
+ * NewsService의 등록/수정/발행 상태 변경/삭제 시 발행된다.
+ * 변경 전/후의 발행 상태(previous/current)를 함께 전달하며, 등록이면 previous, 삭제면 current가 null이다.
+ */
+public class NewsChangedEvent {
+
+    private final Long newsId;
+    private final State previous;
+    private final State current;
+    private final boolean affectsPublished;
+    private final List<String> categories;
+
+    public NewsChangedEvent(Long newsId, State previous, State current) {
+        this.newsId = newsId;
+        this.previous = previous;
+        this.current = current;
+        this.affectsPublished = (previous != null && previous.published())
+            || (current != null && current.published());
+        this.categories = Stream.of(previous, current)
+            .filter(Objects::nonNull)
+            .map(State::category)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+    }
+
+    public Long getNewsId() { return newsId; }
+
+    public State getPrevious() { return previous; }
+
+    public State getCurrent() { return current; }
+
+    // 발행된 뉴스 목록에 영향을 주는 변경인지 여부
+    public boolean isAffectsPublished() { return affectsPublished; }
+
+    public List<String> getCategories() { return categories; }
+
+    /**
+     * 통계/캐시 갱신에 필요한 뉴스 상태
+     */
+    public record State(boolean published, String category, LocalDateTime publishedAt) {
+
+        public static State of(News news) {
+            return new State(Boolean.TRUE.equals(news.getPublished()), news.getCategory(), news.getPublishedAt());
+        }
+    }
+}
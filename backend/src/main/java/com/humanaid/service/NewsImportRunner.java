@@ -0,0 +1,63 @@
+package com.humanaid.service;
+
+import com.humanaid.dto.NewsImportResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 명령행 뉴스 피드 가져오기
+ * 예: java -jar humanaid-backend-exec.jar --spring.main.web-application-type=none --news.import.file=data/news-cache.json
+ * .ndjson / .jsonl 확장자는 NDJSON으로 읽으며, 기본적으로 가져오기가 끝나면 애플리케이션을 종료한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "news.import", name = "file")
+public class NewsImportRunner implements ApplicationRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(NewsImportRunner.class);
+    
+    @Autowired
+    private NewsImportService newsImportService;
+    
+    @Autowired
+    private ApplicationContext applicationContext;
+    
+    @Value("${news.import.file}")
+    private Path file;
+    
+    @Value("${news.import.publish:true}")
+    private boolean publish;
+    
+    @Value("${news.import.exit:true}")
+    private boolean exit;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        String name = file.getFileName().toString().toLowerCase();
+        boolean ndjson = name.endsWith(".ndjson") || name.endsWith(".jsonl");
+        try (InputStream in = Files.newInputStream(file)) {
+            NewsImportResult result = newsImportService.importFeed(in, ndjson, publish);
+            log.info("{} 가져오기: {}건 저장, {}건 중복, {}건 누락", file, result.getImported(),
+                result.getDuplicates(), result.getInvalid());
+        } catch (Exception e) {
+            log.error("{} 가져오기 실패: {}", file, e.getMessage());
+            exitCode = 1;
+        }
+        if (exit) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.humanaid.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humanaid.dto.NewsFeedItem;
+import com.humanaid.dto.NewsImportResult;
+import com.humanaid.entity.News;
+import com.humanaid.repository.NewsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 뉴스 피드 일괄 가져오기
+ * JSON({"news": [...]} 또는 [...]) / NDJSON 피드를 항목 단위로 스트리밍 파싱하고,
+ * batch-size 건마다 외부 URL 중복을 확인한 뒤 한 트랜잭션으로 배치 INSERT 한다.
+ * 묶음마다 커밋하므로 도중에 실패해도 앞서 저장한 묶음은 유지된다.
+ */
+@Service
+public class NewsImportService {
+    
+    private static final Logger log = LoggerFactory.getLogger(NewsImportService.class);
+    
+    private static final String FEED_ITEMS_FIELD = "news";
+    
+    @Autowired
+    private NewsService newsService;
+    
+    @Autowired
+    private NewsRepository newsRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${news.import.batch-size:500}")
+    private int batchSize;
+    
+    /**
+     * 피드 가져오기
+     * 
+     * @param ndjson true면 한 줄에 한 항목인 NDJSON, false면 JSON 문서
+     * @param publish 가져온 뉴스를 바로 발행할지 여부
+     */
+    public NewsImportResult importFeed(InputStream in, boolean ndjson, boolean publish) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        NewsImportResult result = new NewsImportResult();
+        Set<String> seenUrls = new HashSet<>();
+        List<News> batch = new ArrayList<>(batchSize);
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (ndjson) {
+                MappingIterator<NewsFeedItem> items = objectMapper.readerFor(NewsFeedItem.class).readValues(parser);
+                while (items.hasNextValue()) {
+                    accept(items.nextValue(), publish, seenUrls, batch, result);
+                }
+            } else {
+                moveToItems(parser);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    accept(objectMapper.readValue(parser, NewsFeedItem.class), publish, seenUrls, batch, result);
+                }
+            }
+            flush(batch, result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("뉴스 피드 형식이 올바르지 않습니다 (" + result.getImported()
+                + "건 저장 후 중단): " + e.getOriginalMessage(), e);
+        }
+        result.setElapsedMillis(System.currentTimeMillis() - startedAt);
+        log.info("뉴스 가져오기 완료: 읽음 {}, 저장 {}, 중복 {}, 누락 {} ({}ms)", result.getRead(), result.getImported(),
+            result.getDuplicates(), result.getInvalid(), result.getElapsedMillis());
+        return result;
+    }
+    
+    // 최상위 배열, 또는 최상위 객체의 "news" 배열 시작 위치로 이동
+    private void moveToItems(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && FEED_ITEMS_FIELD.equals(field)) {
+                    return;
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IllegalArgumentException("뉴스 피드에서 뉴스 목록(최상위 배열 또는 \"news\" 배열)을 찾을 수 없습니다.");
+    }
+    
+    private void accept(NewsFeedItem item, boolean publish, Set<String> seenUrls, List<News> batch,
+                        NewsImportResult result) {
+        result.setRead(result.getRead() + 1);
+        News news = toNews(item, publish);
+        if (news == null) {
+            result.setInvalid(result.getInvalid() + 1);
+            return;
+        }
+        if (news.getExternalUrl() != null && !seenUrls.add(news.getExternalUrl())) {
+            result.setDuplicates(result.getDuplicates() + 1);
+            return;
+        }
+        batch.add(news);
+        if (batch.size() >= batchSize) {
+            flush(batch, result);
+        }
+    }
+    
+    // 이미 저장된 외부 URL을 걸러낸 뒤 한 트랜잭션으로 저장
+    private void flush(List<News> batch, NewsImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<String> urls = batch.stream().map(News::getExternalUrl).filter(Objects::nonNull).toList();
+        Set<String> existing = urls.isEmpty() ? Set.of() : new HashSet<>(newsRepository.findExistingExternalUrls(urls));
+        List<News> fresh = new ArrayList<>(batch.size());
+        for (News news : batch) {
+            if (news.getExternalUrl() != null && existing.contains(news.getExternalUrl())) {
+                result.setDuplicates(result.getDuplicates() + 1);
+            } else {
+                fresh.add(news);
+            }
+        }
+        if (!fresh.isEmpty()) {
+            newsService.saveAllNews(fresh);
+            result.setImported(result.getImported() + fresh.size());
+        }
+        batch.clear();
+    }
+    
+    // 피드 항목을 엔티티로 변환 (필수 항목이 없으면 null, 길이 제한을 넘는 값은 잘라냄)
+    private static News toNews(NewsFeedItem item, boolean publish) {
+        String title = truncate(item.getTitle(), 200);
+        String summary = truncate(item.getSummary(), 500);
+        String category = truncate(item.getCategory(), 50);
+        if (title == null || summary == null || category == null) {
+            return null;
+        }
+        News news = new News(title, summary, item.getContent(), category, truncate(item.getSource(), 100));
+        news.setImageUrl(truncate(item.getImageUrl(), 500));
+        news.setExternalUrl(truncate(item.getExternalUrl(), 500));
+        news.setPublished(publish);
+        news.setPublishedAt(parseDateTime(item.getPublishedAt()));
+        return news;
+    }
+    
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.length() > maxLength ? trimmed.substring(0, maxLength) : trimmed;
+    }
+    
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
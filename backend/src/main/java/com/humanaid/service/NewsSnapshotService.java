@@ -0,0 +1,187 @@
+package com.humanaid.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humanaid.dto.ApiResponse;
+import com.humanaid.dto.NewsSummary;
+import com.humanaid.repository.NewsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 최신 뉴스 / 발행 뉴스 첫 페이지의 JSON 스냅샷 관리
+ * 응답 본문을 UTF-8 바이트 배열로 미리 직렬화해 두고, 뉴스가 변경될 때만 다시 만든다.
+ * 스냅샷은 오래 재사용되고 파일로 저장/복원되기도 하므로 본문에 응답 시각(timestamp)을 넣지 않는다 (null).
+ */
+@Service
+public class NewsSnapshotService {
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${news.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${news.snapshot.latest-limit:6}")
+    private int latestLimit;
+
+    @Value("${news.snapshot.page-size:10}")
+    private int pageSize;
+
+    // 뉴스가 변경될 때마다 증가하는 세대 번호 (변경 중에 만든 스냅샷이 저장되지 않도록 사용)
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot latestSnapshot;
+    private volatile Snapshot firstPageSnapshot;
+
+    /**
+     * 최신 뉴스 스냅샷 조회 (스냅샷 대상이 아니면 null)
+     */
+    public Snapshot getLatestSnapshot(int limit) {
+        if (!enabled || limit != latestLimit) {
+            return null;
+        }
+        Snapshot snapshot = latestSnapshot;
+        if (snapshot == null) {
+            snapshot = build(() -> {
+                List<NewsSummary> news = newsRepository.findLatestSummaries(PageRequest.of(0, latestLimit));
+                return ApiResponse.success("최신 뉴스를 조회했습니다.", news);
+            });
+            synchronized (this) {
+                if (snapshot.generation == generation.get()) {
+                    latestSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 발행 뉴스 첫 페이지 스냅샷 조회 (스냅샷 대상이 아니면 null)
+     */
+    public Snapshot getFirstPageSnapshot(int page, int size) {
+        if (!enabled || page != 0 || size != pageSize) {
+            return null;
+        }
+        Snapshot snapshot = firstPageSnapshot;
+        if (snapshot == null) {
+            snapshot = build(() -> {
+                Page<NewsSummary> news = newsRepository.findPublishedSummaries(PageRequest.of(0, pageSize));
+                return ApiResponse.success("발행된 뉴스 목록을 조회했습니다.", news);
+            });
+            synchronized (this) {
+                if (snapshot.generation == generation.get()) {
+                    firstPageSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    public int getLatestLimit() {
+        return latestLimit;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 파일에서 읽은 스냅샷을 현재 스냅샷으로 지정 (시작 직후 복원용)
+     * 이미 만들어진 스냅샷이 있거나 그사이 뉴스 변경이 있었으면 무시한다.
+     */
+    public synchronized void restore(Snapshot latest, Snapshot firstPage) {
+        if (!enabled || generation.get() != 0) {
+            return;
+        }
+        if (latest != null && latestSnapshot == null) {
+            latestSnapshot = new Snapshot(latest.body, latest.etag, 0);
+        }
+        if (firstPage != null && firstPageSnapshot == null) {
+            firstPageSnapshot = new Snapshot(firstPage.body, firstPage.etag, 0);
+        }
+    }
+
+    /**
+     * 발행 목록에 영향을 주는 뉴스 변경이 커밋되면 스냅샷 폐기
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (event.isAffectsPublished()) {
+            invalidate();
+        }
+    }
+
+    /**
+     * 스냅샷 폐기 (다음 조회 때 다시 만든다)
+     */
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        latestSnapshot = null;
+        firstPageSnapshot = null;
+    }
+
+    private Snapshot build(Supplier<ApiResponse<?>> loader) {
+        long buildGeneration = generation.get();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        byte[] body = template.execute(status -> {
+            try {
+                ApiResponse<?> response = loader.get();
+                response.setTimestamp(null);
+                return objectMapper.writeValueAsBytes(response);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("뉴스 스냅샷 생성에 실패했습니다: " + e.getMessage(), e);
+            }
+        });
+        return new Snapshot(body, etagOf(body), buildGeneration);
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 미리 직렬화된 응답 본문과 강한 ETag
+     */
+    public static final class Snapshot {
+
+        private final byte[] body;
+        private final String etag;
+        private final long generation;
+
+        public Snapshot(byte[] body, String etag, long generation) {
+            this.body = body;
+            this.etag = etag;
+            this.generation = generation;
+        }
+
+        public byte[] getBody() { return body; }
+
+        public String getEtag() { return etag; }
+    }
+}
@@ -0,0 +1,97 @@
+package com.humanaid.service;
+
+import com.humanaid.config.JpaCacheConfig;
+import com.humanaid.entity.News;
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.search.NewsSearchIndex;
+import com.humanaid.store.OffHeapNewsStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발행 뉴스 읽기 모델 재확인
+ * 오프힙 저장소, 검색 색인, JSON 스냅샷, 뉴스 조회 캐시는 이 인스턴스의 변경 이벤트로만 갱신되므로
+ * 다른 인스턴스나 DB 직접 수정으로 생긴 변경은 주기적으로 발행 뉴스 상태(findPublishedVersion)를 비교해 반영한다.
+ * 상태가 바뀌었으면 어느 인스턴스의 변경인지 구분하지 않고 모두 다시 만든다 (이 인스턴스의 변경 뒤에도 한 번 다시 만든다).
+ */
+@Component
+public class PublishedNewsReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(PublishedNewsReconciler.class);
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private NewsSnapshotService newsSnapshotService;
+
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+
+    @Autowired
+    private OffHeapNewsStore offHeapNewsStore;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // 마지막으로 확인한 발행 뉴스 상태
+    private volatile String lastVersion;
+
+    /**
+     * 기동 시 상태 기록 (다른 읽기 모델이 적재를 시작하기 전에 읽어, 적재 중의 변경은 다음 확인 때 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void recordInitialVersion() {
+        try {
+            lastVersion = newsRepository.findPublishedVersion().asString();
+        } catch (RuntimeException e) {
+            log.warn("발행 뉴스 상태 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 발행 뉴스 상태가 마지막 확인 이후 바뀌었으면 읽기 모델을 모두 다시 만든다
+     *
+     * @return 다시 만들었는지 여부
+     */
+    @Scheduled(fixedDelayString = "${news.reconcile-interval-ms:60000}",
+               initialDelayString = "${news.reconcile-interval-ms:60000}")
+    public synchronized boolean reconcile() {
+        try {
+            String version = newsRepository.findPublishedVersion().asString();
+            if (version.equals(lastVersion)) {
+                return false;
+            }
+            log.info("발행 뉴스 상태 변경 감지, 읽기 모델을 다시 만듭니다: {} -> {}", lastVersion, version);
+            // 다시 만드는 동안의 변경은 다음 확인 때 상태가 달라 다시 반영된다
+            lastVersion = version;
+
+            // 로컬 2차 캐시의 뉴스 엔티티/발행 목록 쿼리 결과도 다른 인스턴스의 변경을 모른다
+            entityManagerFactory.getCache().evict(News.class);
+            entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(JpaCacheConfig.PUBLISHED_NEWS_QUERY_REGION);
+
+            offHeapNewsStore.reload();
+            newsSearchIndex.rebuild();
+            newsSnapshotService.invalidate();
+            newsService.invalidateCaches();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("발행 뉴스 읽기 모델 재확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
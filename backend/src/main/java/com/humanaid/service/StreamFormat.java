@@ -0,0 +1,38 @@
+package com.humanaid.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 목록 스트리밍 / 내보내기 응답 형식
+ * 엔드포인트마다 지원하는 형식만 from(value, supported...)으로 받는다. (스트리밍 조회: JSON/NDJSON, 문의 내보내기: CSV/NDJSON)
+ */
+public enum StreamFormat {
+    JSON("application/json", "json"),
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    StreamFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() { return contentType; }
+
+    public String getExtension() { return extension; }
+
+    public static StreamFormat from(String value, StreamFormat... supported) {
+        try {
+            StreamFormat format = valueOf(value.toUpperCase(Locale.ROOT));
+            if (Arrays.asList(supported).contains(format)) {
+                return format;
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 지원하지 않는 형식으로 처리
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,55 @@
+package com.humanaid.stats;
+
+import com.humanaid.dto.InquiryTypeCount;
+import com.humanaid.repository.ContactRepository;
+import com.humanaid.service.ContactChangedEvent;
+import com.humanaid.service.ContactsDeletedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문의 통계 집계 (문의 유형별 / 접수 월별)
+ */
+@Component
+public class ContactStatsRollup extends StatsRollupSupport {
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    /**
+     * 문의 등록/삭제가 커밋되면 건수 증감 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactChanged(ContactChangedEvent event) {
+        rollup.apply(event.getInquiryType(), dayOf(event.getCreatedAt()), event.getCountDelta());
+    }
+
+    /**
+     * 조건 일괄 삭제가 커밋되면 유형/일자별 삭제 건수만큼 감소
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactsDeleted(ContactsDeletedEvent event) {
+        for (ContactsDeletedEvent.DeletedCount count : event.getCounts()) {
+            rollup.apply(count.inquiryType(), count.day(), -count.count());
+        }
+    }
+
+    @Override
+    protected Map<String, Long> loadKeyCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (InquiryTypeCount row : contactRepository.countByInquiryType()) {
+            counts.put(row.getInquiryType(), row.getCount());
+        }
+        return counts;
+    }
+
+    @Override
+    protected List<Object[]> loadDayCounts() {
+        return contactRepository.countByDay();
+    }
+}
@@ -0,0 +1,107 @@
+package com.humanaid.stats;
+
+import com.humanaid.dto.MonthlyCount;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 키별 / 일자별 건수 집계 (메모리)
+ * 변경 시 증감만 반영하므로 조회 비용은 데이터 건수가 아니라 버킷(키, 일자) 수에 비례한다.
+ */
+public class CountRollup {
+
+    private final Map<String, Long> byKey = new HashMap<>();
+    private final TreeMap<LocalDate, Long> byDay = new TreeMap<>();
+    private long version;
+
+    /**
+     * 건수 증감 반영 (key 또는 day가 null이면 해당 집계는 건너뜀)
+     */
+    public synchronized void apply(String key, LocalDate day, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (key != null) {
+            merge(byKey, key, delta);
+        }
+        if (day != null) {
+            merge(byDay, day, delta);
+        }
+        version++;
+    }
+
+    /**
+     * 전체 집계를 DB 재집계 결과로 교체
+     * 재집계하는 동안 증감이 반영되었으면(version 불일치) 교체하지 않고 -1을 반환한다.
+     *
+     * @return 값이 달랐던 버킷 수
+     */
+    public synchronized int replaceIfUnchanged(long expectedVersion, Map<String, Long> keyCounts, Map<LocalDate, Long> dayCounts) {
+        if (version != expectedVersion) {
+            return -1;
+        }
+        int drift = diff(byKey, keyCounts) + diff(byDay, dayCounts);
+        byKey.clear();
+        byKey.putAll(keyCounts);
+        byDay.clear();
+        byDay.putAll(dayCounts);
+        version++;
+        return drift;
+    }
+
+    /**
+     * 키별 건수 (키 이름순 사본)
+     */
+    public synchronized SortedMap<String, Long> countsByKey() {
+        return new TreeMap<>(byKey);
+    }
+
+    /**
+     * from 이후 월별 건수 (일자 단위로 from 포함)
+     */
+    public synchronized List<MonthlyCount> countsByMonth(LocalDateTime from) {
+        Map<YearMonth, Long> months = new TreeMap<>();
+        Map<LocalDate, Long> days = from == null ? byDay : byDay.tailMap(from.toLocalDate(), true);
+        days.forEach((day, count) -> months.merge(YearMonth.from(day), count, Long::sum));
+        List<MonthlyCount> rows = new ArrayList<>(months.size());
+        months.forEach((month, count) -> rows.add(new MonthlyCount(month.getYear(), month.getMonthValue(), count)));
+        return rows;
+    }
+
+    /**
+     * 집계가 바뀔 때마다 증가하는 버전
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    private static <K> int diff(Map<K, Long> current, Map<K, Long> expected) {
+        int drift = 0;
+        for (Map.Entry<K, Long> entry : expected.entrySet()) {
+            if (!entry.getValue().equals(current.get(entry.getKey()))) {
+                drift++;
+            }
+        }
+        for (K key : current.keySet()) {
+            if (!expected.containsKey(key)) {
+                drift++;
+            }
+        }
+        return drift;
+    }
+
+    private static <K> void merge(Map<K, Long> counts, K key, long delta) {
+        Long updated = counts.merge(key, delta, Long::sum);
+        if (updated != null && updated <= 0) {
+            counts.remove(key);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.humanaid.stats;
+
+import com.humanaid.dto.MonthlyCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 증분 통계 집계 공통 처리
+ * 기동 시 DB 집계로 초기화하고, 이후에는 변경 이벤트로 증감만 반영한다.
+ * 이벤트 유실이나 다른 인스턴스의 변경으로 생긴 차이는 주기적인 재집계로 맞춘다.
+ */
+public abstract class StatsRollupSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsRollupSupport.class);
+
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    protected final CountRollup rollup = new CountRollup();
+
+    private volatile boolean ready = false;
+
+    /**
+     * DB에서 키별 건수 조회
+     */
+    protected abstract Map<String, Long> loadKeyCounts();
+
+    /**
+     * DB에서 일자별 건수 [연, 월, 일, 건수] 조회
+     */
+    protected abstract List<Object[]> loadDayCounts();
+
+    /**
+     * DB 재집계 결과로 집계 교체 (기동 시, 이후 주기적으로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stats.reconcile-interval-ms:600000}",
+               initialDelayString = "${stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        String name = getClass().getSimpleName();
+        try {
+            for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+                long version = rollup.version();
+                Map<String, Long> keyCounts = loadKeyCounts();
+                Map<LocalDate, Long> dayCounts = new HashMap<>();
+                for (Object[] row : loadDayCounts()) {
+                    LocalDate day = LocalDate.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+                    dayCounts.put(day, ((Number) row[3]).longValue());
+                }
+                int drift = rollup.replaceIfUnchanged(version, keyCounts, dayCounts);
+                if (drift >= 0) {
+                    if (drift > 0 && ready) {
+                        log.warn("{} 재집계: {}개 버킷 보정", name, drift);
+                    }
+                    ready = true;
+                    return;
+                }
+            }
+            // 재집계 중에도 변경이 계속되면 다음 주기에 다시 시도한다
+            log.debug("{} 재집계 보류: 집계 중 변경 발생", name);
+        } catch (Exception e) {
+            log.warn("{} 재집계 실패: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 집계가 준비되었는지 여부 (준비 전에는 DB 집계로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 키별 건수 (키 이름순)
+     */
+    public SortedMap<String, Long> countsByKey() {
+        return rollup.countsByKey();
+    }
+
+    /**
+     * startDate 이후 월별 건수
+     * 일자 단위로 집계하므로 startDate가 속한 날 전체(0시부터)를 포함한다. DB 집계로 대체할 때도 startOfDay로 맞춘다.
+     */
+    public List<MonthlyCount> countsByMonth(LocalDateTime startDate) {
+        return rollup.countsByMonth(startDate);
+    }
+
+    /**
+     * 월별 건수 조회 시작 시각을 집계 단위(일자)에 맞춤
+     */
+    public static LocalDateTime startOfDay(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toLocalDate().atStartOfDay();
+    }
+
+    protected static LocalDate dayOf(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toLocalDate();
+    }
+}
@@ -0,0 +1,18 @@
+package com.humanaid.store;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행된 뉴스 상태 요약 (건수, 마지막 변경 시각, ID 합계)
+ * 프로세스가 바뀌어도 DB 상태만으로 같은 값이 나오므로 스냅샷 파일이 오래되었는지 판단하는 데 사용한다.
+ * 발행/수정은 마지막 변경 시각을, 발행 취소/삭제는 건수와 ID 합계를 바꾼다.
+ */
+public record PublishedNewsVersion(Long count, LocalDateTime lastChanged, Long idSum) {
+
+    /**
+     * 스냅샷 파일에 기록하는 문자열 형태
+     */
+    public String asString() {
+        return count + ":" + lastChanged + ":" + idSum;
+    }
+}
@@ -0,0 +1,35 @@
+-- 초기 스키마 (MySQL, prod 프로필)
+-- 기존에 수동으로 만든 DB는 baseline-on-migrate로 이 버전을 건너뛴다.
+
+CREATE TABLE contacts (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    name            VARCHAR(100)  NOT NULL,
+    email           VARCHAR(255)  NOT NULL,
+    company         VARCHAR(100),
+    phone           VARCHAR(20),
+    inquiry_type    VARCHAR(50)   NOT NULL,
+    subject         VARCHAR(200)  NOT NULL,
+    message         VARCHAR(2000) NOT NULL,
+    privacy_agree   BIT           NOT NULL,
+    marketing_agree BIT,
+    created_at      DATETIME(6)   NOT NULL,
+    processed       BIT           NOT NULL,
+    processed_at    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE news (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(200) NOT NULL,
+    summary      VARCHAR(500) NOT NULL,
+    content      TEXT,
+    image_url    VARCHAR(500),
+    category     VARCHAR(50)  NOT NULL,
+    source       VARCHAR(100),
+    external_url VARCHAR(500),
+    published    BIT          NOT NULL,
+    published_at DATETIME(6),
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
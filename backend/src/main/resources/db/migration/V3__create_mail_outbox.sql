@@ -0,0 +1,19 @@
+-- 알림 메일 아웃박스 (업무 데이터와 같은 트랜잭션에서 저장, MailOutboxDispatcher가 발송)
+
+CREATE TABLE mail_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(255) NOT NULL,
+    sender          VARCHAR(255),
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 발송 대상 조회 (status = 'PENDING' AND next_attempt_at <= now)
+CREATE INDEX idx_mail_outbox_status_next_attempt_at ON mail_outbox (status, next_attempt_at);
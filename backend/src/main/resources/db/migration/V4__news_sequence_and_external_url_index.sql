@@ -0,0 +1,13 @@
+-- 뉴스 ID를 IDENTITY에서 시퀀스(allocationSize 50)로 전환해 INSERT JDBC 배치를 사용한다.
+-- MySQL에는 시퀀스가 없으므로 Hibernate와 같은 형식의 news_seq 테이블로 흉내 낸다.
+-- Hibernate pooled 최적화는 읽은 값을 할당 구간의 상한으로 쓰므로(값 - 49 ~ 값) 기존 최대 ID + 50에서 시작한다.
+-- id 컬럼의 AUTO_INCREMENT는 남겨 두며, 애플리케이션은 항상 ID를 지정해 INSERT 한다.
+
+CREATE TABLE news_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO news_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM news;
+
+-- 일괄 가져오기 시 외부 URL 중복 확인
+CREATE INDEX idx_news_external_url ON news (external_url);
@@ -0,0 +1,132 @@
+package com.humanaid.benchmark;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 HTTP 부하 발생기
+ * 동시 클라이언트 수만큼 요청을 계속 보내고 요청별 지연 시간을 모아 처리량과 p50/p99를 계산한다.
+ * 부하 발생기 쪽이 병목이 되지 않도록 클라이언트는 항상 가상 스레드로 요청한다.
+ */
+final class HttpLoad {
+
+    /**
+     * 클라이언트 번호와 요청 순번으로 다음 요청 생성
+     */
+    interface RequestFactory {
+        HttpRequest next(int client, int n);
+    }
+
+    private HttpLoad() {}
+
+    /**
+     * 워밍업 후 측정 구간의 결과 반환
+     */
+    static Result run(String mode, int concurrency, int warmupSeconds, int durationSeconds,
+                      RequestFactory requests) throws Exception {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+            load(http, clients, concurrency, warmupSeconds, requests);
+            return Result.of(mode, concurrency, durationSeconds,
+                load(http, clients, concurrency, durationSeconds, requests));
+        }
+    }
+
+    /**
+     * 결과를 target/benchmark-results 아래 CSV로 저장
+     */
+    static void writeCsv(String fileName, List<Result> results) throws IOException {
+        Path dir = Path.of("target", "benchmark-results");
+        Files.createDirectories(dir);
+        StringBuilder csv = new StringBuilder(Result.CSV_HEADER).append('\n');
+        for (Result result : results) {
+            csv.append(result.toCsv()).append('\n');
+        }
+        Files.writeString(dir.resolve(fileName), csv.toString());
+    }
+
+    private static Samples load(HttpClient http, ExecutorService clients, int concurrency, int seconds,
+                                RequestFactory requests) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>(concurrency);
+        for (int c = 0; c < concurrency; c++) {
+            int client = c;
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                for (int n = 0; System.nanoTime() < deadline; n++) {
+                    HttpRequest request = requests.next(client, n);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+        List<long[]> perClient = new ArrayList<>(futures.size());
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        return new Samples(perClient, errors.get());
+    }
+
+    private record Samples(List<long[]> perClient, long errors) {}
+
+    record Result(String mode, int concurrency, int durationSeconds, long requests, long errors,
+                  double throughput, double p50Millis, double p99Millis) {
+
+        static final String HEADER = String.format("%-10s %10s %8s %12s %10s %10s", "mode", "requests", "errors", "req/s", "p50(ms)", "p99(ms)");
+
+        static final String CSV_HEADER = "mode,concurrency,durationSeconds,requests,errors,throughput,p50Millis,p99Millis";
+
+        private static Result of(String mode, int concurrency, int seconds, Samples samples) {
+            long[] all = samples.perClient().stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(mode, concurrency, seconds, all.length, samples.errors(), (double) all.length / seconds,
+                percentile(all, 0.50), percentile(all, 0.99));
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        String toCsv() {
+            return String.format("%s,%d,%d,%d,%d,%.1f,%.2f,%.2f", mode, concurrency, durationSeconds,
+                requests, errors, throughput, p50Millis, p99Millis);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %10d %8d %12.1f %10.2f %10.2f", mode, requests, errors, throughput, p50Millis, p99Millis);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.humanaid.benchmark;
+
+import com.humanaid.HumanaidApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기동 시간 벤치마크 (기본 / fast-start 프로필 / + AOT / + CDS)
+ * 모드마다 새 JVM 프로세스로 애플리케이션을 띄우고, 프로세스 시작부터 /api/news/latest가 처음 200으로 응답할 때까지의 시간을 잰다.
+ * AOT/CDS 모드는 mvn -Pfast-start package로 만든 AOT 클래스, 일반 jar + 의존성 jar, CDS 아카이브가 있을 때만 측정한다.
+ *
+ * 실행: mvn -Pfast-start package -DskipTests && mvn test -Pbenchmark -Dtest=StartupBenchmarkTest [-Dbenchmark.startup-runs=5]
+ * 결과: target/benchmark-results/startup.csv (모드별 로그: target/benchmark-results/startup-*.log)
+ */
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupBenchmarkTest.class);
+
+    private static final int RUNS = Integer.getInteger("benchmark.startup-runs", 3);
+    private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("benchmark.startup-timeout-seconds", 120));
+
+    private static final Path TARGET = Path.of("target").toAbsolutePath();
+    private static final Path RESULTS = TARGET.resolve("benchmark-results");
+    private static final Path CDS_ARCHIVE = TARGET.resolve("fast-start/humanaid.jsa");
+    private static final Path CLASSPATH_FILE = TARGET.resolve("fast-start/classpath.txt");
+    private static final Path AOT_INITIALIZER = TARGET.resolve("classes/com/humanaid/HumanaidApplication__ApplicationContextInitializer.class");
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void compareStartupModes() throws Exception {
+        Files.createDirectories(RESULTS);
+        String classpath = packagedClasspath();
+        boolean packaged = classpath != null;
+        if (!packaged) {
+            classpath = System.getProperty("java.class.path");
+        }
+
+        List<String> rows = new ArrayList<>();
+        log.info(String.format("%-16s %10s %10s %10s", "mode", "min(ms)", "p50(ms)", "max(ms)"));
+        rows.add(measure("default", classpath, List.of(), false));
+        rows.add(measure("fast-start", classpath, List.of(), true));
+        if (Files.exists(AOT_INITIALIZER)) {
+            rows.add(measure("fast-start-aot", classpath, List.of("-Dspring.aot.enabled=true"), true));
+            if (packaged && Files.exists(CDS_ARCHIVE)) {
+                rows.add(measure("fast-start-aot-cds", classpath,
+                    List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + CDS_ARCHIVE), true));
+            }
+        } else {
+            log.info("AOT 클래스가 없어 AOT/CDS 모드는 건너뜁니다 (mvn -Pfast-start package 필요)");
+        }
+
+        StringBuilder csv = new StringBuilder("mode,runs,minMillis,p50Millis,maxMillis\n");
+        rows.forEach(row -> csv.append(row).append('\n'));
+        Files.writeString(RESULTS.resolve("startup.csv"), csv.toString());
+    }
+
+    private String measure(String mode, String classpath, List<String> jvmArgs, boolean fastStart) throws Exception {
+        long[] millis = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            millis[run] = timeToFirstResponse(mode, run, classpath, jvmArgs, fastStart);
+        }
+        Arrays.sort(millis);
+        long p50 = millis[(RUNS - 1) / 2];
+        log.info(String.format("%-16s %10d %10d %10d", mode, millis[0], p50, millis[RUNS - 1]));
+        return String.format("%s,%d,%d,%d,%d", mode, RUNS, millis[0], p50, millis[RUNS - 1]);
+    }
+
+    private long timeToFirstResponse(String mode, int run, String classpath, List<String> jvmArgs,
+                                     boolean fastStart) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-cp", classpath, HumanaidApplication.class.getName(),
+            "--server.port=" + port, "--logging.level.root=WARN", "--logging.level.com.humanaid=WARN"));
+        if (fastStart) {
+            command.add("--spring.profiles.active=fast-start");
+        }
+        ProcessBuilder builder = new ProcessBuilder(command)
+            .directory(TARGET.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(RESULTS.resolve("startup-" + mode + "-" + run + ".log").toFile());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/news/latest"))
+            .timeout(Duration.ofSeconds(5))
+            .GET().build();
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertTrue(process.isAlive(), mode + " 프로세스가 종료되었습니다 (로그 확인)");
+                try {
+                    if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(10);
+            }
+            return fail(mode + " 기동이 " + TIMEOUT.toSeconds() + "초 안에 끝나지 않았습니다");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * mvn -Pfast-start package 결과물(일반 jar + 의존성 jar)의 클래스패스 (CDS 아카이브를 만든 학습 실행과 같아야 함)
+     */
+    private static String packagedClasspath() throws IOException {
+        if (!Files.exists(CLASSPATH_FILE)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(TARGET)) {
+            return files.map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith("humanaid-backend-") && name.endsWith(".jar") && !name.endsWith("-exec.jar"))
+                .findFirst()
+                .map(jar -> jar + File.pathSeparator + readClasspathFile())
+                .orElse(null);
+        }
+    }
+
+    private static String readClasspathFile() {
+        try {
+            return Files.readString(CLASSPATH_FILE).trim();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
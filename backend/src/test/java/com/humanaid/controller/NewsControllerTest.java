@@ -1,17 +1,26 @@
 package com.humanaid.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humanaid.dto.NewsImportResult;
+import com.humanaid.dto.NewsSummary;
 import com.humanaid.entity.News;
+import com.humanaid.service.NewsImportService;
 import com.humanaid.service.NewsService;
+import com.humanaid.service.NewsSnapshotService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -19,7 +28,11 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,10 +47,17 @@ class NewsControllerTest {
     @MockBean
     private NewsService newsService;
 
+    @MockBean
+    private NewsSnapshotService newsSnapshotService;
+
+    @MockBean
+    private NewsImportService newsImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private News news;
+    private NewsSummary newsSummary;
 
     @BeforeEach
     void setUp() {
@@ -52,12 +72,14 @@ class NewsControllerTest {
         news.setPublished(true);
         news.setPublishedAt(LocalDateTime.now());
         news.setCreatedAt(LocalDateTime.now());
+        newsSummary = new NewsSummary(news.getId(), news.getTitle(), news.getSummary(), null, news.getCategory(),
+            news.getSource(), null, news.getPublished(), news.getPublishedAt(), news.getCreatedAt());
     }
 
     @Test
     void getLatestNews_Success() throws Exception {
         // Given
-        List<News> newsList = Arrays.asList(news);
+        List<NewsSummary> newsList = Arrays.asList(newsSummary);
         when(newsService.getLatestNews(anyInt())).thenReturn(newsList);
 
         // When & Then
@@ -66,13 +88,43 @@ class NewsControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("최신 뉴스를 조회했습니다."))
                 .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].title").value("테스트 뉴스 제목"));
+                .andExpect(jsonPath("$.data[0].title").value("테스트 뉴스 제목"))
+                .andExpect(jsonPath("$.data[0].content").doesNotExist());
+    }
+
+    @Test
+    void getLatestNews_ServedFromSnapshot() throws Exception {
+        // Given
+        byte[] body = "{\"success\":true,\"message\":\"최신 뉴스를 조회했습니다.\",\"data\":[]}"
+            .getBytes(StandardCharsets.UTF_8);
+        when(newsSnapshotService.getLatestSnapshot(6))
+            .thenReturn(new NewsSnapshotService.Snapshot(body, "\"abc123\"", 0));
+
+        // When & Then
+        mockMvc.perform(get("/news/latest"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(jsonPath("$.message").value("최신 뉴스를 조회했습니다."));
+        verify(newsService, never()).getLatestNews(anyInt());
+    }
+
+    @Test
+    void getLatestNews_SnapshotNotModified() throws Exception {
+        // Given
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        when(newsSnapshotService.getLatestSnapshot(6))
+            .thenReturn(new NewsSnapshotService.Snapshot(body, "\"abc123\"", 0));
+
+        // When & Then
+        mockMvc.perform(get("/news/latest").header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
     }
 
     @Test
     void getNewsByCategory_Success() throws Exception {
         // Given
-        List<News> newsList = Arrays.asList(news);
+        List<NewsSummary> newsList = Arrays.asList(newsSummary);
         when(newsService.getNewsByCategory("AI 뉴스")).thenReturn(newsList);
 
         // When & Then
@@ -109,6 +161,42 @@ class NewsControllerTest {
                 .andExpect(jsonPath("$.message").value("뉴스를 찾을 수 없습니다."));
     }
 
+    @Test
+    void getNewsById_NotModified() throws Exception {
+        // Given - 뉴스 한 건의 수정 시각으로 ETag를 만듦 (컬렉션 버전과 무관)
+        when(newsService.getPublishedVersionTag()).thenReturn("epoch-3");
+        when(newsService.getNewsById(1L)).thenReturn(Optional.of(news));
+        String etag = mockMvc.perform(get("/news/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/news/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/news/1").header("If-None-Match", "\"epoch-3\""))
+                .andExpect(status().isOk());
+
+        // When & Then - 수정되면 ETag가 바뀜
+        news.setUpdatedAt(LocalDateTime.now().plusMinutes(1));
+        mockMvc.perform(get("/news/1").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getNewsById_MissingOrUnpublished_NeverNotModified() throws Exception {
+        // Given
+        news.setPublished(false);
+        when(newsService.getPublishedVersionTag()).thenReturn("epoch-3");
+        when(newsService.getNewsById(1L)).thenReturn(Optional.of(news));
+        when(newsService.getNewsById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/news/999").header("If-None-Match", "\"epoch-3\""))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/news/1").header("If-None-Match", "*"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getNewsById_UnpublishedNews() throws Exception {
         // Given
@@ -122,19 +210,28 @@ class NewsControllerTest {
                 .andExpect(jsonPath("$.message").value("뉴스를 찾을 수 없습니다."));
     }
 
+    @Test
+    void streamPublishedNews_UnsupportedFormat_BadRequest() throws Exception {
+        // When & Then - CSV는 문의 내보내기에서만 지원
+        mockMvc.perform(get("/news/published").param("stream", "true").param("format", "csv"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("지원하지 않는 형식입니다: csv"));
+    }
+
     @Test
     void searchNews_Success() throws Exception {
         // Given
-        List<News> newsList = Arrays.asList(news);
-        when(newsService.searchNews("테스트")).thenReturn(newsList);
+        Page<NewsSummary> newsPage = new PageImpl<>(Arrays.asList(newsSummary), PageRequest.of(0, 10), 1);
+        when(newsService.searchNews(eq("테스트"), any(Pageable.class))).thenReturn(newsPage);
 
         // When & Then
         mockMvc.perform(get("/news/search?keyword=테스트"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("검색 결과를 조회했습니다."))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].title").value("테스트 뉴스 제목"));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].title").value("테스트 뉴스 제목"))
+                .andExpect(jsonPath("$.data.totalElements").value(1));
     }
 
     @Test
@@ -165,4 +262,35 @@ class NewsControllerTest {
                 .andExpect(jsonPath("$.message").value("뉴스 발행이 취소되었습니다."))
                 .andExpect(jsonPath("$.data.published").value(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    void importNews_Ndjson_Success() throws Exception {
+        // Given
+        NewsImportResult result = new NewsImportResult();
+        result.setRead(2);
+        result.setImported(2);
+        when(newsImportService.importFeed(any(), eq(true), anyBoolean())).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/news/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"title\":\"a\"}\n{\"title\":\"b\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.imported").value(2));
+    }
+
+    @Test
+    void importNews_MalformedFeed_BadRequest() throws Exception {
+        // Given
+        when(newsImportService.importFeed(any(), eq(false), anyBoolean()))
+            .thenThrow(new IllegalArgumentException("뉴스 피드 형식이 올바르지 않습니다"));
+
+        // When & Then
+        mockMvc.perform(post("/news/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
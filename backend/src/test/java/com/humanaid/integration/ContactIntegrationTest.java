@@ -1,21 +1,50 @@
 package com.humanaid.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humanaid.config.JpaCacheConfig;
 import com.humanaid.dto.ContactRequest;
+import com.humanaid.dto.ContactSummary;
+import com.humanaid.dto.InquiryTypeCount;
+import com.humanaid.dto.MonthlyCount;
 import com.humanaid.entity.Contact;
+import com.humanaid.entity.MailOutbox;
 import com.humanaid.repository.ContactRepository;
+import com.humanaid.repository.MailOutboxRepository;
+import com.humanaid.service.ContactExportService;
+import com.humanaid.service.ContactService;
+import com.humanaid.service.MailOutboxService;
+import com.humanaid.service.StreamFormat;
+import com.humanaid.stats.ContactStatsRollup;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,6 +61,24 @@ class ContactIntegrationTest {
     @Autowired
     private ContactRepository contactRepository;
 
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private ContactStatsRollup contactStatsRollup;
+
+    @Autowired
+    private ContactExportService contactExportService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -73,6 +120,16 @@ class ContactIntegrationTest {
         assertEquals("integration@humanaid.digital", savedContact.getEmail());
         assertEquals("general", savedContact.getInquiryType());
         assertFalse(savedContact.getProcessed());
+
+        // Then - 관리자 알림 메일이 같은 트랜잭션에서 아웃박스에 저장되었는지 확인
+        List<MailOutbox> outbox = mailOutboxRepository.findAll();
+        assertEquals(1, outbox.size());
+        assertEquals(MailOutbox.Status.PENDING, outbox.get(0).getStatus());
+        assertEquals("contact@humanaid.digital", outbox.get(0).getRecipient());
+
+        // 디스패처가 가져가면 선점(시도 횟수 증가, 다음 시도 시각 연기)되어 다시 조회되지 않는다
+        assertEquals(1, mailOutboxService.claimBatch(10).size());
+        assertTrue(mailOutboxService.claimBatch(10).isEmpty());
     }
 
     @Test
@@ -115,4 +172,321 @@ class ContactIntegrationTest {
                 .andExpect(jsonPath("$.data[0].name").value("테스트 사용자"))
                 .andExpect(jsonPath("$.data[0].processed").value(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllContactsByCursor_IntegrationTest() throws Exception {
+        // Given - 테스트 데이터 저장
+        for (int i = 0; i < 3; i++) {
+            contactRepository.save(new Contact(
+                "커서 사용자" + i,
+                "cursor" + i + "@humanaid.digital",
+                null,
+                null,
+                "general",
+                "커서 문의 " + i,
+                "커서 페이지네이션 메시지",
+                true,
+                false
+            ));
+        }
+        long total = contactRepository.count();
+
+        // When - 커서를 따라 끝까지 조회
+        Set<Long> seenIds = new HashSet<>();
+        String cursor = "";
+        boolean hasNext = true;
+        while (hasNext) {
+            String body = mockMvc.perform(get("/contacts").param("cursor", cursor).param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode data = objectMapper.readTree(body).get("data");
+            data.get("content").forEach(node -> assertTrue(seenIds.add(node.get("id").asLong())));
+            hasNext = data.get("hasNext").asBoolean();
+            cursor = hasNext ? data.get("nextCursor").asText() : null;
+        }
+
+        // Then - 중복/누락 없이 모든 문의사항을 조회
+        assertEquals(total, seenIds.size());
+    }
+
+    @Test
+    void getAllContactsByCursor_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/contacts").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void contactStats_ServedFromRollupMatchesDatabase() throws Exception {
+        // Given - 기동 시 DB 집계로 초기화된 증분 집계
+        assertTrue(contactStatsRollup.isReady());
+        long expected = contactRepository.countByInquiryType().stream()
+            .mapToLong(InquiryTypeCount::getCount).sum();
+
+        // When & Then
+        mockMvc.perform(get("/contacts/stats/by-type"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].inquiryType").isString())
+                .andExpect(jsonPath("$.data[0].count").isNumber());
+        long actual = contactStatsRollup.countsByKey().values().stream()
+            .mapToLong(Long::longValue).sum();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void summaryAndStatsQueries_ReturnTypedRows() throws Exception {
+        // Given
+        Contact contact = new Contact("프로젝션 사용자", "projection@humanaid.digital", null, null,
+            "partnership", "프로젝션 문의", "프로젝션 메시지", true, false);
+        contactRepository.save(contact);
+
+        // When
+        Page<ContactSummary> found = contactRepository.findSummariesByKeyword("프로젝션", PageRequest.of(0, 10));
+        List<MonthlyCount> months = contactRepository.countByMonth(LocalDateTime.now().minusMonths(1));
+
+        // Then
+        assertEquals(1, found.getTotalElements());
+        assertEquals("프로젝션 사용자", found.getContent().get(0).getName());
+        assertTrue(months.stream().mapToLong(MonthlyCount::getCount).sum() >= 1);
+        mockMvc.perform(get("/contacts/stats/by-month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].year").isNumber())
+                .andExpect(jsonPath("$.data[0].month").isNumber())
+                .andExpect(jsonPath("$.data[0].count").isNumber());
+        mockMvc.perform(get("/contacts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].subject").exists())
+                .andExpect(jsonPath("$.data.content[0].message").doesNotExist());
+    }
+
+    @Test
+    void bulkProcessAndDelete_IntegrationTest() throws Exception {
+        // Given
+        Contact first = contactRepository.save(new Contact("일괄 사용자1", "bulk1@humanaid.digital", null, null,
+            "bulk-test", "일괄 문의1", "일괄 메시지1", true, false));
+        Contact second = contactRepository.save(new Contact("일괄 사용자2", "bulk2@humanaid.digital", null, null,
+            "bulk-test", "일괄 문의2", "일괄 메시지2", true, false));
+
+        // When & Then - processed만 지정한 처리 요청은 거부 (전체 문의를 처리하지 않음)
+        mockMvc.perform(put("/contacts/bulk/process")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"processed\": false}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        assertFalse(contactRepository.findById(first.getId()).orElseThrow().getProcessed());
+        assertFalse(contactRepository.findById(second.getId()).orElseThrow().getProcessed());
+
+        // When & Then - 유형 조건으로 일괄 처리
+        mockMvc.perform(put("/contacts/bulk/process")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"inquiryType\": \"bulk-test\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(2));
+        assertTrue(contactRepository.findById(first.getId()).orElseThrow().getProcessed());
+
+        // When & Then - ID 목록으로 일괄 삭제
+        mockMvc.perform(post("/contacts/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("ids", List.of(first.getId(), second.getId())))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(2));
+        assertFalse(contactRepository.existsById(second.getId()));
+
+        // When & Then - 조건 없는 요청은 거부
+        mockMvc.perform(post("/contacts/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void bulkDeleteByFilter_SingleDeleteWithGroupedCounts_IntegrationTest() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            contactRepository.save(new Contact("조건 삭제 " + i, "filter" + i + "@humanaid.digital", null, null,
+                "bulk-filter", "조건 삭제 문의", "메시지 " + i, true, false));
+        }
+        List<Object[]> groups = contactRepository.countByTypeAndDayForFilter("bulk-filter", null, null, null);
+        assertEquals(1, groups.size());
+        assertEquals("bulk-filter", groups.get(0)[0]);
+        assertEquals(3L, ((Number) groups.get(0)[4]).longValue());
+
+        // When & Then
+        mockMvc.perform(post("/contacts/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"inquiryType\": \"bulk-filter\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(3));
+        assertTrue(contactRepository.countByTypeAndDayForFilter("bulk-filter", null, null, null).isEmpty());
+    }
+
+    @Test
+    void export_CsvAndNdjson_IntegrationTest() throws Exception {
+        // Given - 구분자/따옴표/줄바꿈이 포함된 문의
+        contactRepository.save(new Contact("내보내기 사용자", "export@humanaid.digital", "회사, 주식회사", null,
+            "export", "견적 \"요청\"", "첫 줄\n둘째 줄", true, false));
+        Contact processedContact = new Contact("내보내기 사용자2", "export2@humanaid.digital", null, null,
+            "export", "일반 문의", "메시지", true, true);
+        processedContact.setProcessed(true);
+        contactRepository.save(processedContact);
+
+        // When
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        long csvCount = contactExportService.export(StreamFormat.CSV, "export", null, null, null, csv);
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long ndjsonCount = contactExportService.export(StreamFormat.NDJSON, "export", null, null, false, ndjson);
+
+        // Then
+        assertEquals(2, csvCount);
+        String csvText = csv.toString(StandardCharsets.UTF_8);
+        assertTrue(csvText.startsWith("\uFEFFid,name,email,"));
+        assertTrue(csvText.contains(",\"회사, 주식회사\",,export,\"견적 \"\"요청\"\"\",\"첫 줄\n둘째 줄\",true,false,"));
+        assertEquals(1, ndjsonCount);
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, lines.length);
+        assertEquals("export@humanaid.digital", objectMapper.readTree(lines[0]).get("email").asText());
+    }
+
+    @Test
+    void export_Csv_EscapesFormulaCells_IntegrationTest() throws Exception {
+        // Given - 공개 문의 양식으로 들어온 수식 값
+        mockMvc.perform(post("/contacts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ContactRequest(
+                    "=HYPERLINK(\"http://evil.example\",\"클릭\")", "formula@humanaid.digital", "@SUM(A1:A2)",
+                    "+82-10-0000-0000", "formula", "-1+1", "\t=1+1", true, false))))
+                .andExpect(status().isOk());
+
+        // When
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        contactExportService.export(StreamFormat.CSV, "formula", null, null, null, csv);
+
+        // Then - 수식 문자로 시작하는 셀은 '로 시작하고, 따옴표가 필요하면 그 다음에 감싼다
+        String csvText = csv.toString(StandardCharsets.UTF_8);
+        assertTrue(csvText.contains(",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"클릭\"\")\",formula@humanaid.digital,"
+            + "'@SUM(A1:A2),'+82-10-0000-0000,formula,'-1+1,'\t=1+1,true,false,"), csvText);
+    }
+
+    @Test
+    void export_BypassesSecondLevelCache_IntegrationTest() throws Exception {
+        // Given
+        CacheRegionStatistics region = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics().getCacheRegionStatistics(JpaCacheConfig.CONTACT_REGION);
+        entityManager.getEntityManagerFactory().getCache().evict(Contact.class);
+        entityManager.clear();
+        long puts = region.getPutCount();
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+
+        // When - 전체 문의 내보내기
+        long count = contactExportService.export(StreamFormat.NDJSON, null, null, null, null, new ByteArrayOutputStream());
+
+        // Then - 2차 캐시를 읽거나 채우지 않음
+        assertTrue(count > 0);
+        assertEquals(puts, region.getPutCount());
+        assertEquals(hits, region.getHitCount());
+        assertEquals(misses, region.getMissCount());
+    }
+
+    @Test
+    void export_Endpoint_StreamsCsv_IntegrationTest() throws Exception {
+        // Given - 응답 본문은 별도 스레드/트랜잭션에서 기록되므로 커밋된 초기 데이터(data.sql)로 확인
+
+        // When
+        MvcResult result = mockMvc.perform(get("/contacts/export").param("format", "csv").param("inquiryType", "partnership"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", startsWith("attachment;")))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(containsString("sample@example.com")));
+        mockMvc.perform(get("/contacts/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void streamContacts_WritesApiResponseEnvelope_IntegrationTest() throws Exception {
+        // Given
+        contactRepository.save(new Contact("스트리밍 사용자", "stream@humanaid.digital", null, null,
+            "stream", "스트리밍 문의", "메시지", true, false));
+
+        // When
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        long count = contactService.streamContacts("stream", null, null, false,
+            StreamFormat.JSON, "문의 유형별 목록을 조회했습니다.", json);
+
+        // Then - 목록 응답과 같은 구조이고 요약 컬럼만 포함
+        assertEquals(1, count);
+        JsonNode body = objectMapper.readTree(json.toByteArray());
+        assertTrue(body.get("success").asBoolean());
+        assertEquals("문의 유형별 목록을 조회했습니다.", body.get("message").asText());
+        assertEquals(1, body.get("data").size());
+        assertEquals("stream@humanaid.digital", body.get("data").get(0).get("email").asText());
+        assertNull(body.get("data").get(0).get("message"));
+        assertTrue(body.hasNonNull("timestamp"));
+    }
+
+    @Test
+    void streamEndpoints_JsonAndNdjson_IntegrationTest() throws Exception {
+        // Given - 응답 본문은 별도 스레드/트랜잭션에서 기록되므로 커밋된 초기 데이터(data.sql)로 확인
+
+        // When
+        MvcResult ndjson = mockMvc.perform(get("/contacts/by-type/partnership")
+                        .param("stream", "true").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult json = mockMvc.perform(get("/contacts/unprocessed").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(startsWith("{\"id\":")))
+                .andExpect(content().string(containsString("sample@example.com")));
+        mockMvc.perform(asyncDispatch(json))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[*].email", hasItems("test@example.com", "sample@example.com")));
+        mockMvc.perform(get("/contacts/unprocessed").param("stream", "true").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getContactById_UsesSecondLevelCacheAndSeesUpdates_IntegrationTest() {
+        // Given - 초기 데이터 문의
+        Long id = contactRepository.findByEmailOrderByCreatedAtDesc("test@example.com").get(0).getId();
+        CacheRegionStatistics region = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics().getCacheRegionStatistics(JpaCacheConfig.CONTACT_REGION);
+        entityManager.clear();
+        contactService.getContactById(id);
+        entityManager.clear();
+        long hits = region.getHitCount();
+
+        // When - 영속성 컨텍스트를 비운 뒤 다시 조회
+        Contact cached = contactService.getContactById(id).orElseThrow();
+
+        // Then
+        assertEquals(hits + 1, region.getHitCount());
+        assertFalse(cached.getProcessed());
+
+        // When - 처리 완료 후 다시 조회
+        contactService.markAsProcessed(id);
+        entityManager.flush();
+        entityManager.clear();
+        Contact updated = contactService.getContactById(id).orElseThrow();
+
+        // Then
+        assertTrue(updated.getProcessed());
+    }
+}
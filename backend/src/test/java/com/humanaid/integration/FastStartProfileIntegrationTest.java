@@ -0,0 +1,50 @@
+package com.humanaid.integration;
+
+import com.humanaid.service.EmailService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "fast-start"})
+class FastStartProfileIntegrationTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void mailBeans_CreatedOnFirstUse() throws Exception {
+        // Given
+        String emailService = beanFactory.getBeanNamesForType(EmailService.class, true, false)[0];
+        String mailSender = beanFactory.getBeanNamesForType(JavaMailSender.class, true, false)[0];
+
+        // Then - 기동 시에는 메일 빈을 만들지 않음
+        assertTrue(beanFactory.getBeanDefinition(emailService).isLazyInit());
+        assertFalse(beanFactory.containsSingleton(emailService));
+        assertFalse(beanFactory.containsSingleton(mailSender));
+
+        // When & Then - 뉴스 조회는 그대로 응답
+        mockMvc.perform(get("/news/latest"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        // When - 처음 사용할 때 생성
+        beanFactory.getBean(EmailService.class);
+
+        // Then
+        assertTrue(beanFactory.containsSingleton(emailService));
+    }
+}
@@ -0,0 +1,52 @@
+package com.humanaid.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    // 관측 필터(http.server.requests)가 적용되도록 자동 구성된 MockMvc 사용
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpoint_ExposesRequestServiceRepositoryExecutorPoolAndJpaCacheMetrics() throws Exception {
+        // Given - 컨트롤러 / 서비스 / 리포지토리를 거치는 요청
+        mockMvc.perform(get("/contacts").param("page", "0").param("size", "5"))
+                .andExpect(status().isOk());
+
+        // When
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket"), "컨트롤러 요청 히스토그램");
+        assertTrue(scrape.contains("humanaid_service_seconds_count{"), "서비스 메서드 타이머");
+        assertTrue(scrape.contains("method=\"getAllContacts\""), "서비스 메서드 태그");
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket"), "리포지토리 호출 히스토그램");
+        assertTrue(scrape.contains("executor_queued_tasks{"), "비동기 실행기 대기열");
+        assertTrue(scrape.contains("humanaid_mail_outbox_pending"), "메일 아웃박스 적체량");
+        assertTrue(scrape.contains("cache_gets_total{"), "캐시 적중률");
+        assertTrue(scrape.contains("hikaricp_connections_active{"), "커넥션 풀 사용 중 커넥션");
+        assertTrue(scrape.contains("hikaricp_connections_idle{"), "커넥션 풀 유휴 커넥션");
+        assertTrue(scrape.contains("hikaricp_connections_pending{"), "커넥션 풀 대기 스레드");
+        assertTrue(scrape.contains("hikaricp_connections_acquire_seconds_bucket{"), "커넥션 획득 대기 시간 히스토그램");
+        assertTrue(scrape.contains("humanaid_jpa_cache_hits_total{"), "2차 캐시 적중 횟수");
+        assertTrue(scrape.contains("region=\"publishedNewsQueries\""), "2차 캐시 영역 태그");
+        assertTrue(scrape.contains("humanaid_jpa_cache_hit_ratio{"), "2차 캐시 적중률");
+    }
+}
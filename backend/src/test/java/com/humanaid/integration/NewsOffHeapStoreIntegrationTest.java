@@ -0,0 +1,153 @@
+package com.humanaid.integration;
+
+import com.humanaid.search.NewsSearchIndex;
+import com.humanaid.service.NewsService;
+import com.humanaid.service.PublishedNewsReconciler;
+import com.humanaid.store.NewsSnapshotPersister;
+import com.humanaid.store.OffHeapNewsStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "news.offheap.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class NewsOffHeapStoreIntegrationTest {
+
+    @Autowired
+    private OffHeapNewsStore offHeapNewsStore;
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private NewsSnapshotPersister newsSnapshotPersister;
+
+    @Autowired
+    private PublishedNewsReconciler publishedNewsReconciler;
+
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void disableSnapshotFile() {
+        ReflectionTestUtils.setField(newsSnapshotPersister, "file", "");
+    }
+
+    @Test
+    void detail_ServedFromStoreAndMaintainedByPublishToggle() throws Exception {
+        // Given - 기동 시 초기 데이터의 발행 뉴스(ID 1~4)가 적재됨
+        assertTrue(offHeapNewsStore.get(3L).isPresent());
+
+        // When & Then - 상세 조회는 저장소의 본문으로 응답
+        mockMvc.perform(get("/news/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(3))
+                .andExpect(jsonPath("$.data.category").value("파트너십"))
+                .andExpect(jsonPath("$.data.content").isNotEmpty());
+
+        // When - 발행 취소가 커밋되면 저장소에서 제거
+        newsService.togglePublishStatus(3L);
+
+        // Then
+        assertTrue(offHeapNewsStore.get(3L).isEmpty());
+        mockMvc.perform(get("/news/3"))
+                .andExpect(status().isNotFound());
+
+        // When - 다시 발행하면 저장소에 다시 저장
+        newsService.togglePublishStatus(3L);
+
+        // Then
+        assertTrue(offHeapNewsStore.get(3L).isPresent());
+        mockMvc.perform(get("/news/3"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void snapshotFile_RestoresStoreAndRejectsStaleFile() throws Exception {
+        // Given
+        Path file = tempDir.resolve("news-snapshot.bin");
+        ReflectionTestUtils.setField(newsSnapshotPersister, "file", file.toString());
+        int stored = offHeapNewsStore.size();
+
+        // When - 저장 후 복원
+        assertTrue(newsSnapshotPersister.save());
+        boolean restored = newsSnapshotPersister.restore();
+
+        // Then
+        assertTrue(Files.size(file) > 0);
+        assertTrue(restored);
+        assertEquals(stored, offHeapNewsStore.size());
+        assertTrue(offHeapNewsStore.get(3L).orElseThrow().content().length() > 0);
+        assertFalse(newsSnapshotPersister.save());
+
+        // When - 파일 저장 이후 발행 상태가 바뀜
+        newsService.togglePublishStatus(3L);
+        newsService.togglePublishStatus(3L);
+
+        // Then - 데이터 버전이 달라 복원하지 않음
+        assertFalse(newsSnapshotPersister.restore());
+        assertTrue(offHeapNewsStore.get(3L).isPresent());
+        assertTrue(newsSnapshotPersister.save());
+        assertTrue(newsSnapshotPersister.restore());
+    }
+
+    @Test
+    void reconcile_AppliesChangesMadeOutsideThisInstance() throws Exception {
+        // Given - 읽기 모델이 모두 만들어진 상태
+        publishedNewsReconciler.reconcile();
+        mockMvc.perform(get("/news/latest")).andExpect(status().isOk());
+        assertTrue(newsSearchIndex.search("전략적 제휴", 0, 10).getIds().contains(3L));
+        String versionTag = newsService.getPublishedVersionTag();
+        assertFalse(publishedNewsReconciler.reconcile());
+
+        // When - 다른 인스턴스가 발행을 취소함 (이 인스턴스에는 변경 이벤트가 없음)
+        jdbcTemplate.update("UPDATE news SET published = false, updated_at = CURRENT_TIMESTAMP WHERE id = 3");
+        try {
+            // Then - 재확인 전에는 이전 상태
+            assertTrue(offHeapNewsStore.get(3L).isPresent());
+
+            // When
+            assertTrue(publishedNewsReconciler.reconcile());
+
+            // Then
+            assertTrue(offHeapNewsStore.get(3L).isEmpty());
+            assertFalse(newsSearchIndex.search("전략적 제휴", 0, 10).getIds().contains(3L));
+            assertTrue(newsService.getNewsByCategory("파트너십").isEmpty());
+            assertNotEquals(versionTag, newsService.getPublishedVersionTag());
+            mockMvc.perform(get("/news/latest"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[?(@.id == 3)]").isEmpty());
+        } finally {
+            jdbcTemplate.update("UPDATE news SET published = true, updated_at = CURRENT_TIMESTAMP WHERE id = 3");
+            publishedNewsReconciler.reconcile();
+        }
+
+        // Then - 다시 발행된 상태도 반영
+        assertTrue(offHeapNewsStore.get(3L).isPresent());
+        assertTrue(newsSearchIndex.search("전략적 제휴", 0, 10).getIds().contains(3L));
+    }
+}
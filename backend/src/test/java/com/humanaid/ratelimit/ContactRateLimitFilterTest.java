@@ -0,0 +1,151 @@
+package com.humanaid.ratelimit;
+
+import com.humanaid.controller.ContactController;
+import com.humanaid.dto.ContactRequest;
+import com.humanaid.entity.Contact;
+import com.humanaid.service.ContactExportService;
+import com.humanaid.service.ContactService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ContactController.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "rate-limit.contact.enabled=true",
+    "rate-limit.contact.ip-limit=3",
+    "rate-limit.contact.email-limit=2",
+    "rate-limit.contact.max-body-bytes=1024"
+})
+class ContactRateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ContactService contactService;
+
+    @MockBean
+    private ContactExportService contactExportService;
+
+    @Test
+    void createContact_SameEmailOverLimit_TooManyRequests() throws Exception {
+        // Given
+        when(contactService.saveContact(any(ContactRequest.class), any())).thenReturn(new Contact());
+
+        // When & Then - 이메일 대소문자가 달라도 같은 키로 본다
+        mockMvc.perform(submit("10.1.0.1", "Burst@Example.com")).andExpect(status().isOk());
+        mockMvc.perform(submit("10.1.0.2", "burst@example.com")).andExpect(status().isOk());
+        mockMvc.perform(submit("10.1.0.3", "burst@example.com"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.success").value(false));
+        verify(contactService, times(2)).saveContact(any(ContactRequest.class), any());
+    }
+
+    @Test
+    void createContact_InvalidBody_DoesNotChargeEmail() throws Exception {
+        // Given
+        when(contactService.saveContact(any(ContactRequest.class), any())).thenReturn(new Contact());
+
+        // When - 검증에 실패하는 본문은 이메일 한도를 차감하지 않음
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/contacts")
+                    .with(request -> { request.setRemoteAddr("10.4.0.1"); return request; })
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"email\": \"invalid@example.com\", \"subject\": \"제목\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        // Then
+        mockMvc.perform(submit("10.4.0.2", "invalid@example.com")).andExpect(status().isOk());
+        mockMvc.perform(submit("10.4.0.3", "invalid@example.com")).andExpect(status().isOk());
+        verify(contactService, times(2)).saveContact(any(ContactRequest.class), any());
+    }
+
+    @Test
+    void createContact_IdempotentReplay_DoesNotChargeEmail() throws Exception {
+        // Given - 같은 Idempotency-Key의 재시도는 먼저 등록된 문의로 응답
+        Contact replayed = new Contact();
+        replayed.setReplayed(true);
+        when(contactService.saveContact(any(ContactRequest.class), eq("retry-1"))).thenReturn(replayed);
+        when(contactService.saveContact(any(ContactRequest.class), isNull())).thenReturn(new Contact());
+
+        // When - 같은 키로 여러 번 재시도
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(submit("10.5.0." + i, "replay@example.com").header("Idempotency-Key", "retry-1"))
+                    .andExpect(status().isOk());
+        }
+
+        // Then - 새 문의는 한도만큼 그대로 받음
+        mockMvc.perform(submit("10.5.1.1", "replay@example.com")).andExpect(status().isOk());
+        mockMvc.perform(submit("10.5.1.2", "replay@example.com")).andExpect(status().isOk());
+        mockMvc.perform(submit("10.5.1.3", "replay@example.com")).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void createContact_SaveFailed_DoesNotChargeEmail() throws Exception {
+        // Given
+        when(contactService.saveContact(any(ContactRequest.class), any()))
+            .thenThrow(new IllegalStateException("DB 오류"))
+            .thenThrow(new IllegalStateException("DB 오류"))
+            .thenReturn(new Contact());
+
+        // When
+        mockMvc.perform(submit("10.6.0.1", "failed@example.com")).andExpect(status().isInternalServerError());
+        mockMvc.perform(submit("10.6.0.2", "failed@example.com")).andExpect(status().isInternalServerError());
+
+        // Then
+        mockMvc.perform(submit("10.6.0.3", "failed@example.com")).andExpect(status().isOk());
+        mockMvc.perform(submit("10.6.0.4", "failed@example.com")).andExpect(status().isOk());
+    }
+
+    @Test
+    void createContact_SameIpOverLimit_TooManyRequestsBeforeValidation() throws Exception {
+        // Given
+        when(contactService.saveContact(any(ContactRequest.class), any())).thenReturn(new Contact());
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(submit("10.2.0.1", "ip" + i + "@example.com")).andExpect(status().isOk());
+        }
+
+        // When & Then - 잘못된 본문이어도 검증 전에 거부
+        mockMvc.perform(post("/contacts")
+                .with(request -> { request.setRemoteAddr("10.2.0.1"); return request; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void createContact_OversizedBody_PayloadTooLarge() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/contacts")
+                .with(request -> { request.setRemoteAddr("10.3.0.1"); return request; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"message\": \"" + "a".repeat(2000) + "\"}"))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    private static MockHttpServletRequestBuilder submit(String ip, String email) {
+        return post("/contacts")
+                .with(request -> { request.setRemoteAddr(ip); return request; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"속도 제한\", \"email\": \"" + email + "\", \"inquiryType\": \"general\", "
+                    + "\"subject\": \"제목\", \"message\": \"메시지\", \"privacyAgree\": true}");
+    }
+}
@@ -0,0 +1,95 @@
+package com.humanaid.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(-TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void tryAcquire_AllowsBurstThenRejects() {
+        // Given - 분당 3건
+        RateLimiter limiter = new RateLimiter(3, Duration.ofMinutes(1), 1024, clock::get);
+
+        // When & Then
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        long wait = limiter.tryAcquire("10.0.0.1");
+        assertTrue(wait > 0 && wait <= TimeUnit.SECONDS.toNanos(20));
+    }
+
+    @Test
+    void tryAcquire_RefillsOverTime() {
+        // Given
+        RateLimiter limiter = new RateLimiter(3, Duration.ofMinutes(1), 1024, clock::get);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("user@example.com");
+        }
+        assertTrue(limiter.tryAcquire("user@example.com") > 0);
+
+        // When - 토큰 1개가 충전되는 시간(20초) 경과
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(20));
+
+        // Then
+        assertEquals(0, limiter.tryAcquire("user@example.com"));
+        assertTrue(limiter.tryAcquire("user@example.com") > 0);
+    }
+
+    @Test
+    void refund_ReturnsOneToken() {
+        // Given
+        RateLimiter limiter = new RateLimiter(2, Duration.ofMinutes(1), 1024, clock::get);
+        limiter.tryAcquire("user@example.com");
+        limiter.tryAcquire("user@example.com");
+        assertTrue(limiter.tryAcquire("user@example.com") > 0);
+
+        // When
+        limiter.refund("user@example.com");
+
+        // Then - 1건만 다시 허용
+        assertEquals(0, limiter.tryAcquire("user@example.com"));
+        assertTrue(limiter.tryAcquire("user@example.com") > 0);
+    }
+
+    @Test
+    void refund_FullBucket_DoesNotExceedCapacity() {
+        // Given
+        RateLimiter limiter = new RateLimiter(2, Duration.ofMinutes(1), 1024, clock::get);
+
+        // When - 차감 없이 반환
+        limiter.refund("user@example.com");
+
+        // Then - 용량보다 많이 허용하지 않음
+        assertEquals(0, limiter.tryAcquire("user@example.com"));
+        assertEquals(0, limiter.tryAcquire("user@example.com"));
+        assertTrue(limiter.tryAcquire("user@example.com") > 0);
+    }
+
+    @Test
+    void tryAcquire_KeysAreIndependent() {
+        // Given
+        RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 1024, clock::get);
+
+        // When
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+
+        // Then
+        assertTrue(limiter.tryAcquire("10.0.0.1") > 0);
+        assertEquals(0, limiter.tryAcquire("10.0.0.2"));
+    }
+
+    @Test
+    void constructor_RoundsWidthToPowerOfTwo() {
+        // When & Then
+        assertEquals(1024, new RateLimiter(1, Duration.ofMinutes(1), 1000).getWidth());
+        assertEquals(1, new RateLimiter(1, Duration.ofMinutes(1), 1).getWidth());
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, Duration.ofMinutes(1), 16));
+    }
+}
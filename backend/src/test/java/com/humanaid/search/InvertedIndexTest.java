@@ -0,0 +1,119 @@
+package com.humanaid.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.index(1L,
+            new String[] { "차세대 AI 의료 진단 시스템 개발", "딥러닝 기반 의료 영상 분석" },
+            new int[] { 3, 1 });
+        index.index(2L,
+            new String[] { "AI 교육 플랫폼 베타 서비스", "맞춤형 학습 경로 제공" },
+            new int[] { 3, 1 });
+        index.index(3L,
+            new String[] { "투자 유치 성공", "의료 AI 분야 투자" },
+            new int[] { 3, 1 });
+    }
+
+    @Test
+    void tokenize_KoreanBigramsAndLatinWords() {
+        // When
+        List<String> tokens = NgramTokenizer.tokenize("Human.Ai.D 의료진단");
+
+        // Then
+        assertEquals(Arrays.asList("human", "ai", "d", "의료", "료진", "진단"), tokens);
+    }
+
+    @Test
+    void search_MatchesKoreanSubstring() {
+        // When
+        List<Long> ids = index.search("진단");
+
+        // Then
+        assertEquals(List.of(1L), ids);
+    }
+
+    @Test
+    void search_RanksTitleMatchesFirst() {
+        // When
+        List<Long> ids = index.search("의료");
+
+        // Then
+        assertEquals(List.of(1L, 3L), ids);
+    }
+
+    @Test
+    void search_RequiresAllTerms() {
+        // When & Then
+        assertEquals(List.of(2L), index.search("AI 교육"));
+        assertTrue(index.search("교육 투자").isEmpty());
+    }
+
+    @Test
+    void search_ReturnsRequestedPageAndTotal() {
+        // When
+        SearchHits first = index.search("AI", 0, 2);
+        SearchHits second = index.search("AI", 2, 2);
+
+        // Then
+        assertEquals(3, first.getTotal());
+        assertEquals(2, first.getIds().size());
+        assertEquals(1, second.getIds().size());
+        assertFalse(first.getIds().contains(second.getIds().get(0)));
+    }
+
+    @Test
+    void search_SingleHangulCharacterMatchesWithinBigrams() {
+        // When & Then - "진"은 "진단"의 일부, "료"는 "의료"의 일부
+        assertEquals(List.of(1L), index.search("진"));
+        assertEquals(List.of(1L, 3L), index.search("료"));
+        assertTrue(index.search("힣").isEmpty());
+    }
+
+    @Test
+    void search_PartialLatinWordMatchesAndExactWordRanksFirst() {
+        // Given
+        index.index(4L, new String[] { "Development roadmap" }, new int[] { 3 });
+        index.index(5L, new String[] { "Develop 워크숍" }, new int[] { 3 });
+
+        // When & Then - 단어의 앞부분/가운데만 입력해도 찾음 (기존 LIKE 검색과 같은 범위)
+        assertEquals(List.of(5L, 4L), index.search("develop"));
+        assertEquals(2, index.search("velop").size());
+        assertEquals(List.of(4L), index.search("roadm"));
+        assertTrue(index.search("developer").isEmpty());
+    }
+
+    @Test
+    void search_PartialMatchAfterRemove_DropsRemovedTokens() {
+        // Given
+        index.index(4L, new String[] { "Development roadmap" }, new int[] { 3 });
+
+        // When - 문서를 다시 색인하면서 이전 토큰이 사라짐
+        index.index(4L, new String[] { "Release notes" }, new int[] { 3 });
+
+        // Then
+        assertTrue(index.search("velop").isEmpty());
+        assertEquals(List.of(4L), index.search("leas"));
+    }
+
+    @Test
+    void remove_DropsDocumentFromResults() {
+        // When
+        index.remove(1L);
+
+        // Then
+        assertTrue(index.search("진단").isEmpty());
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,119 @@
+package com.humanaid.service;
+
+import com.humanaid.entity.MailOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private MailOutboxDispatcher dispatcher;
+
+    private MailOutbox first;
+    private MailOutbox second;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+        ReflectionTestUtils.setField(dispatcher, "maxBatchesPerRun", 20);
+
+        first = new MailOutbox("noreply@humanaid.digital", "a@humanaid.digital", "제목1", "본문1");
+        first.setId(1L);
+        second = new MailOutbox("noreply@humanaid.digital", "b@humanaid.digital", "제목2", "본문2");
+        second.setId(2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void dispatchBatch_SendsAllMessagesInOneCall() {
+        // Given
+        when(mailOutboxService.claimBatch(50)).thenReturn(Arrays.asList(first, second));
+
+        // When
+        int processed = dispatcher.dispatchBatch();
+
+        // Then
+        assertEquals(2, processed);
+        ArgumentCaptor<SimpleMailMessage[]> sent = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+        verify(mailSender, times(1)).send(sent.capture());
+        assertEquals(2, sent.getValue().length);
+        assertEquals(1, meterRegistry.get("humanaid.mail.send").tag("outcome", "success").timer().count());
+        verify(mailOutboxService).recordResult(eq(List.of(1L, 2L)), eq(Map.of()), anyLong());
+    }
+
+    @Test
+    void dispatchBatch_PartialFailure_RetriesOnlyFailedMessages() {
+        // Given
+        when(mailOutboxService.claimBatch(50)).thenReturn(Arrays.asList(first, second));
+        doAnswer(invocation -> {
+            SimpleMailMessage failed = invocation.getArgument(1);
+            throw new MailSendException(Map.of(failed, new RuntimeException("mailbox unavailable")));
+        }).when(mailSender).send(any(SimpleMailMessage.class), any(SimpleMailMessage.class));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(mailOutboxService).recordResult(eq(List.of(1L)), eq(Map.of(2L, "mailbox unavailable")), anyLong());
+    }
+
+    @Test
+    void dispatchBatch_ConnectionFailure_RetriesWholeBatch() {
+        // Given
+        when(mailOutboxService.claimBatch(50)).thenReturn(Arrays.asList(first, second));
+        doThrow(new MailAuthenticationException("auth failed"))
+            .when(mailSender).send(any(SimpleMailMessage.class), any(SimpleMailMessage.class));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(mailOutboxService).recordResult(eq(List.of()), eq(Map.of(1L, "auth failed", 2L, "auth failed")), anyLong());
+    }
+
+    @Test
+    void dispatch_StopsWhenBacklogIsDrained() {
+        // Given
+        when(mailOutboxService.claimBatch(50)).thenReturn(List.of());
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        verify(mailOutboxService, times(1)).claimBatch(50);
+        verifyNoInteractions(mailSender);
+    }
+}
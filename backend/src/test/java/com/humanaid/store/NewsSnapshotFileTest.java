@@ -0,0 +1,83 @@
+package com.humanaid.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewsSnapshotFileTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void write_ThenRead_RestoresHeaderJsonAndRecords() throws IOException {
+        // Given
+        Path file = tempDir.resolve("news.snapshot");
+        NewsRecord first = record(1L, "본문 1");
+        NewsRecord second = record(2L, "본문 2 — 한글");
+        byte[] body = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        NewsSnapshotFile.write(file, "2:2024-03-01T09:30:3", 1234L,
+            new NewsSnapshotFile.JsonSnapshot(6, body, "\"abc\""), null,
+            writer -> List.of(first, second).forEach(r -> writer.accept(ByteBuffer.wrap(NewsRecordCodec.encode(r)))));
+        NewsSnapshotFile.Contents contents = NewsSnapshotFile.read(file);
+
+        // Then
+        assertEquals("2:2024-03-01T09:30:3", contents.dataVersion());
+        assertEquals(1234L, contents.savedAt());
+        assertArrayEquals(body, contents.latest().body());
+        assertEquals(6, contents.latest().size());
+        assertEquals("\"abc\"", contents.latest().etag());
+        assertNull(contents.firstPage());
+        List<NewsRecord> records = new ArrayList<>();
+        NewsSnapshotFile.forEachRecord(contents.records(), r -> records.add(NewsRecordCodec.decode(r)));
+        assertEquals(List.of(first, second), records);
+    }
+
+    @Test
+    void read_CorruptedBody_FailsChecksum() throws IOException {
+        // Given - 본문 마지막 레코드 바이트 하나를 바꿈
+        Path file = tempDir.resolve("news.snapshot");
+        NewsSnapshotFile.write(file, "1:x:1", 0L, null, null,
+            writer -> writer.accept(ByteBuffer.wrap(NewsRecordCodec.encode(record(1L, "본문")))));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), channel.size() - 10);
+        }
+
+        // When & Then
+        IOException e = assertThrows(IOException.class, () -> NewsSnapshotFile.read(file));
+        assertTrue(e.getMessage().contains("체크섬"));
+    }
+
+    @Test
+    void read_TruncatedFile_Rejected() throws IOException {
+        // Given
+        Path file = tempDir.resolve("news.snapshot");
+        NewsSnapshotFile.write(file, "1:x:1", 0L, null, null,
+            writer -> writer.accept(ByteBuffer.wrap(NewsRecordCodec.encode(record(1L, "본문")))));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        // When & Then
+        assertThrows(IOException.class, () -> NewsSnapshotFile.read(file));
+    }
+
+    private static NewsRecord record(Long id, String content) {
+        LocalDateTime time = LocalDateTime.of(2024, 3, 1, 9, 30);
+        return new NewsRecord(id, "제목 " + id, "요약", content, null, "AI 뉴스", null, null,
+            true, time, time, null);
+    }
+}
@@ -0,0 +1,49 @@
+package com.humanaid.benchmark;
+
+import com.humanaid.dto.ContactRequest;
+import com.humanaid.entity.Contact;
+import com.humanaid.service.ContactService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문의 등록 경로 (문의 저장 + 검색 색인 이벤트 + 메일 아웃박스 저장을 한 트랜잭션으로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContactServiceBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int contactCount;
+
+    private ConfigurableApplicationContext context;
+    private ContactService contactService;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SeededApplication.start("contact-bench", 0, contactCount);
+        contactService = context.getBean(ContactService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Contact saveContact() {
+        int n = sequence.incrementAndGet();
+        ContactRequest request = new ContactRequest("벤치마크 사용자", "bench" + n + "@humanaid.digital",
+            "벤치마크 회사", "010-0000-0000", "general", "벤치마크 문의 " + n,
+            "문의 등록 경로 성능 측정을 위한 메시지입니다.", true, false);
+        return contactService.saveContact(request);
+    }
+}
@@ -0,0 +1,62 @@
+package com.humanaid.benchmark;
+
+import com.humanaid.dto.NewsSummary;
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.service.NewsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 뉴스 조회/검색 경로
+ * getLatestNews는 캐시 적중 경로, findLatestSummaries는 캐시 미스 시 DB 경로를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NewsServiceBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int newsCount;
+
+    @Param({ "의료진단", "AI 플랫폼" })
+    private String keyword;
+
+    private ConfigurableApplicationContext context;
+    private NewsService newsService;
+    private NewsRepository newsRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SeededApplication.start("news-bench", newsCount, 0);
+        newsService = context.getBean(NewsService.class);
+        newsRepository = context.getBean(NewsRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<NewsSummary> getLatestNews() {
+        return newsService.getLatestNews(6);
+    }
+
+    @Benchmark
+    public List<NewsSummary> findLatestSummariesFromRepository() {
+        return newsRepository.findLatestSummaries(PageRequest.of(0, 6));
+    }
+
+    @Benchmark
+    public Page<NewsSummary> searchNews() {
+        return newsService.searchNews(keyword, PageRequest.of(0, 10));
+    }
+}
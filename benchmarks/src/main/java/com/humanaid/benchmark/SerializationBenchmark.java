@@ -0,0 +1,59 @@
+package com.humanaid.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humanaid.dto.ApiResponse;
+import com.humanaid.dto.NewsSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse JSON 직렬화 경로
+ * ObjectMapper는 애플리케이션과 같은 설정(Spring Boot 자동 설정)을 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({ "6", "10", "100" })
+    private int listSize;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<NewsSummary>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SeededApplication.start("serialization-bench", 0, 0);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        Random random = new Random(42);
+        List<NewsSummary> news = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            news.add(new NewsSummary((long) i + 1, SeededApplication.sentence(random, 6),
+                SeededApplication.sentence(random, 20), null, "technology", "benchmark", null,
+                true, LocalDateTime.now(), LocalDateTime.now()));
+        }
+        response = ApiResponse.success("최신 뉴스를 조회했습니다.", news);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,39 @@
+package com.humanaid.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 발행된 뉴스 목록 (전체 / 페이지)
+    public static final String PUBLISHED_NEWS = "publishedNews";
+
+    // 최신 뉴스 N개 (메인페이지용)
+    public static final String LATEST_NEWS = "latestNews";
+
+    // 카테고리별 발행된 뉴스
+    public static final String NEWS_BY_CATEGORY = "newsByCategory";
+
+    // 뉴스 상세
+    public static final String NEWS_DETAIL = "newsDetail";
+
+    /**
+     * 뉴스 조회용 캐시 매니저
+     * 무효화는 NewsService가 커밋 이후(@TransactionalEventListener)에 직접 하므로 TransactionAware 프록시로 감싸지 않는다.
+     * (커밋 후 콜백 안에서 프록시로 무효화하면 새 동기화가 실행되지 않아 무효화가 빠진다)
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${news.cache.spec}") String cacheSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+            PUBLISHED_NEWS, LATEST_NEWS, NEWS_BY_CATEGORY, NEWS_DETAIL
+        );
+        cacheManager.setCacheSpecification(cacheSpec);
+        return cacheManager;
+    }
+}
@@ -1,18 +1,33 @@
 package com.humanaid.controller;
 
 import com.humanaid.dto.ApiResponse;
+import com.humanaid.dto.ContactBulkRequest;
 import com.humanaid.dto.ContactRequest;
+import com.humanaid.dto.ContactSummary;
+import com.humanaid.dto.CursorPage;
+import com.humanaid.dto.InquiryTypeCount;
+import com.humanaid.dto.MailOutboxStats;
+import com.humanaid.dto.MonthlyCount;
 import com.humanaid.entity.Contact;
+import com.humanaid.exception.DuplicateSubmissionException;
+import com.humanaid.ratelimit.ContactRateLimitFilter;
+import com.humanaid.service.ContactExportService;
 import com.humanaid.service.ContactService;
+import com.humanaid.service.StreamFormat;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -25,16 +40,30 @@ public class ContactController {
     @Autowired
     private ContactService contactService;
     
+    @Autowired
+    private ContactExportService contactExportService;
+    
     /**
      * 문의사항 등록
+     * 같은 내용을 다시 보내거나 같은 Idempotency-Key 헤더로 재시도하면 새로 저장하지 않고 먼저 등록된 문의로 응답한다.
      */
     @PostMapping
-    public ResponseEntity<ApiResponse<Contact>> createContact(@Valid @RequestBody ContactRequest request) {
+    public ResponseEntity<ApiResponse<Contact>> createContact(
+            @Valid @RequestBody ContactRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            HttpServletRequest httpRequest) {
         try {
-            Contact savedContact = contactService.saveContact(request);
+            Contact savedContact = contactService.saveContact(request, idempotencyKey);
+            if (savedContact.isReplayed()) {
+                // 새 문의가 아니므로 속도 제한 필터가 이메일 한도를 돌려준다
+                httpRequest.setAttribute(ContactRateLimitFilter.REPLAYED_ATTRIBUTE, Boolean.TRUE);
+            }
             return ResponseEntity.ok(
                 ApiResponse.success("문의사항이 성공적으로 등록되었습니다.", savedContact)
             );
+        } catch (DuplicateSubmissionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("문의사항 등록 중 오류가 발생했습니다: " + e.getMessage()));
@@ -45,15 +74,38 @@ public class ContactController {
      * 모든 문의사항 조회 (페이징) - 관리자용
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<Contact>>> getAllContacts(
+    public ResponseEntity<ApiResponse<Page<ContactSummary>>> getAllContacts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Contact> contacts = contactService.getAllContacts(pageable);
+            Page<ContactSummary> contacts = contactService.getAllContacts(pageable);
+            return ResponseEntity.ok(
+                ApiResponse.success("문의사항 목록을 조회했습니다.", contacts)
+            );
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("문의사항 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 모든 문의사항 조회 (커서 기반 페이징) - 관리자용
+     * cursor 파라미터가 있으면 이 모드로 동작하며, 첫 페이지는 cursor= (빈 값)으로 요청한다.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ContactSummary>>> getAllContactsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        try {
+            CursorPage<ContactSummary> contacts = contactService.getAllContacts(cursor, size, withTotal);
             return ResponseEntity.ok(
                 ApiResponse.success("문의사항 목록을 조회했습니다.", contacts)
             );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("문의사항 조회 중 오류가 발생했습니다: " + e.getMessage()));
@@ -64,9 +116,9 @@ public class ContactController {
      * 처리되지 않은 문의사항 조회 - 관리자용
      */
     @GetMapping("/unprocessed")
-    public ResponseEntity<ApiResponse<List<Contact>>> getUnprocessedContacts() {
+    public ResponseEntity<ApiResponse<List<ContactSummary>>> getUnprocessedContacts() {
         try {
-            List<Contact> contacts = contactService.getUnprocessedContacts();
+            List<ContactSummary> contacts = contactService.getUnprocessedContacts();
             return ResponseEntity.ok(
                 ApiResponse.success("처리되지 않은 문의사항을 조회했습니다.", contacts)
             );
@@ -76,6 +128,17 @@ public class ContactController {
         }
     }
     
+    /**
+     * 처리되지 않은 문의사항 스트리밍 조회 (?stream=true, format=json|ndjson) - 관리자용
+     */
+    @GetMapping(value = "/unprocessed", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamUnprocessedContacts(
+            @RequestParam(defaultValue = "json") String format) {
+        StreamFormat streamFormat = StreamFormat.from(format, StreamFormat.JSON, StreamFormat.NDJSON);
+        return streamResponse(streamFormat, out -> contactService.streamContacts(null, null, null, false,
+            streamFormat, "처리되지 않은 문의사항을 조회했습니다.", out));
+    }
+    
     /**
      * 문의사항 상세 조회 - 관리자용
      */
@@ -116,13 +179,51 @@ public class ContactController {
         }
     }
     
+    /**
+     * 문의사항 일괄 처리 완료 표시 (ID 목록 또는 조건) - 관리자용
+     */
+    @PutMapping("/bulk/process")
+    public ResponseEntity<ApiResponse<Integer>> markAsProcessed(@Valid @RequestBody ContactBulkRequest request) {
+        try {
+            int updated = contactService.markAsProcessed(request);
+            return ResponseEntity.ok(
+                ApiResponse.success(updated + "건의 문의사항이 처리 완료로 표시되었습니다.", updated)
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("문의사항 처리 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 문의사항 일괄 삭제 (ID 목록 또는 조건) - 관리자용
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<Integer>> deleteContacts(@Valid @RequestBody ContactBulkRequest request) {
+        try {
+            int deleted = contactService.deleteContacts(request);
+            return ResponseEntity.ok(
+                ApiResponse.success(deleted + "건의 문의사항이 삭제되었습니다.", deleted)
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("문의사항 삭제 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 문의 유형별 조회 - 관리자용
      */
     @GetMapping("/by-type/{inquiryType}")
-    public ResponseEntity<ApiResponse<List<Contact>>> getContactsByInquiryType(@PathVariable String inquiryType) {
+    public ResponseEntity<ApiResponse<List<ContactSummary>>> getContactsByInquiryType(@PathVariable String inquiryType) {
         try {
-            List<Contact> contacts = contactService.getContactsByInquiryType(inquiryType);
+            List<ContactSummary> contacts = contactService.getContactsByInquiryType(inquiryType);
             return ResponseEntity.ok(
                 ApiResponse.success("문의 유형별 목록을 조회했습니다.", contacts)
             );
@@ -132,13 +233,34 @@ public class ContactController {
         }
     }
     
+    /**
+     * 문의 유형별 스트리밍 조회 (?stream=true, format=json|ndjson) - 관리자용
+     * from/to(ISO 형식, 생략 가능)로 접수일 [from, to) 범위를 지정할 수 있다.
+     */
+    @GetMapping(value = "/by-type/{inquiryType}", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamContactsByInquiryType(
+            @PathVariable String inquiryType,
+            @RequestParam(defaultValue = "json") String format,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        StreamFormat streamFormat = StreamFormat.from(format, StreamFormat.JSON, StreamFormat.NDJSON);
+        LocalDateTime fromDate = from != null ? LocalDateTime.parse(from) : null;
+        LocalDateTime toDate = to != null ? LocalDateTime.parse(to) : null;
+        return streamResponse(streamFormat, out -> contactService.streamContacts(inquiryType, fromDate, toDate, null,
+            streamFormat, "문의 유형별 목록을 조회했습니다.", out));
+    }
+    
     /**
      * 키워드 검색 - 관리자용
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Contact>>> searchContacts(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<Page<ContactSummary>>> searchContacts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
         try {
-            List<Contact> contacts = contactService.searchContacts(keyword);
+            Pageable pageable = PageRequest.of(page, size);
+            Page<ContactSummary> contacts = contactService.searchContacts(keyword, pageable);
             return ResponseEntity.ok(
                 ApiResponse.success("검색 결과를 조회했습니다.", contacts)
             );
@@ -152,9 +274,9 @@ public class ContactController {
      * 문의 유형별 통계 - 관리자용
      */
     @GetMapping("/stats/by-type")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getContactStatsByInquiryType() {
+    public ResponseEntity<ApiResponse<List<InquiryTypeCount>>> getContactStatsByInquiryType() {
         try {
-            List<Object[]> stats = contactService.getContactStatsByInquiryType();
+            List<InquiryTypeCount> stats = contactService.getContactStatsByInquiryType();
             return ResponseEntity.ok(
                 ApiResponse.success("문의 유형별 통계를 조회했습니다.", stats)
             );
@@ -164,18 +286,43 @@ public class ContactController {
         }
     }
     
+    /**
+     * 문의사항 내보내기 (CSV 또는 NDJSON 스트리밍) - 관리자용
+     * 조건(inquiryType, from, to, processed)은 생략 가능하며, 날짜는 ISO 형식(예: 2024-01-01T00:00:00)이다.
+     * 잘못된 형식/날짜는 스트리밍을 시작하기 전에 GlobalExceptionHandler가 400으로 응답한다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContacts(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String inquiryType,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Boolean processed) {
+        StreamFormat exportFormat = StreamFormat.from(format, StreamFormat.CSV, StreamFormat.NDJSON);
+        LocalDateTime fromDate = from != null ? LocalDateTime.parse(from) : null;
+        LocalDateTime toDate = to != null ? LocalDateTime.parse(to) : null;
+        
+        StreamingResponseBody body = out ->
+            contactExportService.export(exportFormat, inquiryType, fromDate, toDate, processed, out);
+        String filename = "contacts-" + LocalDate.now() + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(body);
+    }
+    
     /**
      * 월별 문의 통계 - 관리자용
      */
     @GetMapping("/stats/by-month")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getContactStatsByMonth(
+    public ResponseEntity<ApiResponse<List<MonthlyCount>>> getContactStatsByMonth(
             @RequestParam(required = false) String startDate) {
         try {
             LocalDateTime start = startDate != null ? 
                 LocalDateTime.parse(startDate) : 
                 LocalDateTime.now().minusMonths(12);
             
-            List<Object[]> stats = contactService.getContactStatsByMonth(start);
+            List<MonthlyCount> stats = contactService.getContactStatsByMonth(start);
             return ResponseEntity.ok(
                 ApiResponse.success("월별 문의 통계를 조회했습니다.", stats)
             );
@@ -185,6 +332,22 @@ public class ContactController {
         }
     }
     
+    /**
+     * 알림 메일 아웃박스 현황 (적체량, 발송 통계) - 관리자용
+     */
+    @GetMapping("/stats/mail-outbox")
+    public ResponseEntity<ApiResponse<MailOutboxStats>> getMailOutboxStats() {
+        try {
+            MailOutboxStats stats = contactService.getMailOutboxStats();
+            return ResponseEntity.ok(
+                ApiResponse.success("메일 발송 현황을 조회했습니다.", stats)
+            );
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("통계 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 문의사항 삭제 - 관리자용
      */
@@ -203,4 +366,11 @@ public class ContactController {
                 .body(ApiResponse.error("문의사항 삭제 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+    
+    private static ResponseEntity<StreamingResponseBody> streamResponse(StreamFormat format,
+                                                                        StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .body(body);
+    }
+}
@@ -1,20 +1,39 @@
 package com.humanaid.controller;
 
 import com.humanaid.dto.ApiResponse;
+import com.humanaid.dto.CacheStats;
+import com.humanaid.dto.CategoryCount;
+import com.humanaid.dto.CursorPage;
+import com.humanaid.dto.MonthlyCount;
+import com.humanaid.dto.NewsImportResult;
+import com.humanaid.dto.NewsSummary;
 import com.humanaid.entity.News;
+import com.humanaid.service.NewsImportService;
 import com.humanaid.service.NewsService;
+import com.humanaid.service.NewsSnapshotService;
+import com.humanaid.service.StreamFormat;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/news")
@@ -24,36 +43,79 @@ public class NewsController {
     @Autowired
     private NewsService newsService;
     
+    @Autowired
+    private NewsSnapshotService newsSnapshotService;
+    
+    @Autowired
+    private NewsImportService newsImportService;
+    
     /**
      * 발행된 뉴스 목록 조회 (공개 API)
      */
     @GetMapping("/published")
-    public ResponseEntity<ApiResponse<Page<News>>> getPublishedNews(
+    public ResponseEntity<?> getPublishedNews(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
         try {
+            NewsSnapshotService.Snapshot snapshot = newsSnapshotService.getFirstPageSnapshot(page, size);
+            if (snapshot != null) {
+                return snapshotResponse(snapshot, request);
+            }
+            if (isNotModified(request)) {
+                return null;
+            }
             Pageable pageable = PageRequest.of(page, size);
-            Page<News> news = newsService.getPublishedNews(pageable);
-            return ResponseEntity.ok(
-                ApiResponse.success("발행된 뉴스 목록을 조회했습니다.", news)
-            );
+            Page<NewsSummary> news = newsService.getPublishedNews(pageable);
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("발행된 뉴스 목록을 조회했습니다.", news));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("뉴스 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
     
+    /**
+     * 발행된 뉴스 전체 스트리밍 조회 (공개 API)
+     * ?stream=true 이면 페이징 없이 DB 커서에서 읽는 대로 JSON 배열(format=json) 또는 NDJSON(format=ndjson)으로 응답한다.
+     * from/to(ISO 형식, 생략 가능)로 발행일 [from, to) 범위를 지정할 수 있다.
+     */
+    @GetMapping(value = "/published", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamPublishedNews(
+            @RequestParam(defaultValue = "json") String format,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            WebRequest request) {
+        StreamFormat streamFormat = StreamFormat.from(format, StreamFormat.JSON, StreamFormat.NDJSON);
+        LocalDateTime fromDate = from != null ? LocalDateTime.parse(from) : null;
+        LocalDateTime toDate = to != null ? LocalDateTime.parse(to) : null;
+        if (isNotModified(request)) {
+            return null;
+        }
+        return streamResponse(streamFormat,
+            out -> newsService.streamPublishedNews(fromDate, toDate, streamFormat, out));
+    }
+    
     /**
      * 최신 뉴스 조회 (메인페이지용)
      */
     @GetMapping("/latest")
-    public ResponseEntity<ApiResponse<List<News>>> getLatestNews(
-            @RequestParam(defaultValue = "6") int limit) {
+    public ResponseEntity<?> getLatestNews(
+            @RequestParam(defaultValue = "6") int limit,
+            WebRequest request) {
         try {
-            List<News> news = newsService.getLatestNews(limit);
-            return ResponseEntity.ok(
-                ApiResponse.success("최신 뉴스를 조회했습니다.", news)
-            );
+            NewsSnapshotService.Snapshot snapshot = newsSnapshotService.getLatestSnapshot(limit);
+            if (snapshot != null) {
+                return snapshotResponse(snapshot, request);
+            }
+            if (isNotModified(request)) {
+                return null;
+            }
+            List<NewsSummary> news = newsService.getLatestNews(limit);
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("최신 뉴스를 조회했습니다.", news));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("뉴스 조회 중 오류가 발생했습니다: " + e.getMessage()));
@@ -64,29 +126,52 @@ public class NewsController {
      * 카테고리별 뉴스 조회 (공개 API)
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<ApiResponse<List<News>>> getNewsByCategory(@PathVariable String category) {
+    public ResponseEntity<ApiResponse<List<NewsSummary>>> getNewsByCategory(@PathVariable String category, WebRequest request) {
         try {
-            List<News> news = newsService.getNewsByCategory(category);
-            return ResponseEntity.ok(
-                ApiResponse.success("카테고리별 뉴스를 조회했습니다.", news)
-            );
+            if (isNotModified(request)) {
+                return null;
+            }
+            List<NewsSummary> news = newsService.getNewsByCategory(category);
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("카테고리별 뉴스를 조회했습니다.", news));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("뉴스 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
     
+    /**
+     * 카테고리별 뉴스 스트리밍 조회 (공개 API, ?stream=true)
+     */
+    @GetMapping(value = "/category/{category}", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamNewsByCategory(
+            @PathVariable String category,
+            @RequestParam(defaultValue = "json") String format,
+            WebRequest request) {
+        StreamFormat streamFormat = StreamFormat.from(format, StreamFormat.JSON, StreamFormat.NDJSON);
+        if (isNotModified(request)) {
+            return null;
+        }
+        return streamResponse(streamFormat,
+            out -> newsService.streamNewsByCategory(category, streamFormat, out));
+    }
+    
     /**
      * 뉴스 상세 조회 (공개 API)
+     * 조건부 GET은 컬렉션 버전이 아니라 해당 뉴스의 수정/발행 시각으로 판단하고, 없는 뉴스에는 304를 주지 않는다.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<News>> getNewsById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<News>> getNewsById(@PathVariable Long id, WebRequest request) {
         try {
             Optional<News> news = newsService.getNewsById(id);
             if (news.isPresent() && news.get().getPublished()) {
-                return ResponseEntity.ok(
-                    ApiResponse.success("뉴스를 조회했습니다.", news.get())
-                );
+                if (isNotModified(news.get(), request)) {
+                    return null;
+                }
+                return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(ApiResponse.success("뉴스를 조회했습니다.", news.get()));
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error("뉴스를 찾을 수 없습니다."));
@@ -101,9 +186,13 @@ public class NewsController {
      * 뉴스 검색 (공개 API)
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<News>>> searchNews(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<Page<NewsSummary>>> searchNews(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
         try {
-            List<News> news = newsService.searchNews(keyword);
+            Pageable pageable = PageRequest.of(page, size);
+            Page<NewsSummary> news = newsService.searchNews(keyword, pageable);
             return ResponseEntity.ok(
                 ApiResponse.success("검색 결과를 조회했습니다.", news)
             );
@@ -131,16 +220,39 @@ public class NewsController {
         }
     }
     
+    /**
+     * 뉴스 피드 일괄 가져오기 (JSON 또는 NDJSON 스트리밍, 외부 URL 중복 제외) - 관리자용
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<NewsImportResult>> importNews(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(defaultValue = "true") boolean publish) {
+        try {
+            boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+            NewsImportResult result = newsImportService.importFeed(body, ndjson, publish);
+            return ResponseEntity.ok(
+                ApiResponse.success(result.getImported() + "건의 뉴스를 가져왔습니다.", result)
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("뉴스 가져오기 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 모든 뉴스 조회 (발행 여부 무관) - 관리자용
      */
     @GetMapping("/admin/all")
-    public ResponseEntity<ApiResponse<Page<News>>> getAllNews(
+    public ResponseEntity<ApiResponse<Page<NewsSummary>>> getAllNews(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<News> news = newsService.getAllNews(pageable);
+            Page<NewsSummary> news = newsService.getAllNews(pageable);
             return ResponseEntity.ok(
                 ApiResponse.success("모든 뉴스 목록을 조회했습니다.", news)
             );
@@ -150,6 +262,29 @@ public class NewsController {
         }
     }
     
+    /**
+     * 모든 뉴스 조회 (커서 기반 페이징) - 관리자용
+     * cursor 파라미터가 있으면 이 모드로 동작하며, 첫 페이지는 cursor= (빈 값)으로 요청한다.
+     */
+    @GetMapping(value = "/admin/all", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<NewsSummary>>> getAllNewsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        try {
+            CursorPage<NewsSummary> news = newsService.getAllNews(cursor, size, withTotal);
+            return ResponseEntity.ok(
+                ApiResponse.success("모든 뉴스 목록을 조회했습니다.", news)
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("뉴스 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 뉴스 수정 - 관리자용
      */
@@ -212,9 +347,9 @@ public class NewsController {
      * 카테고리별 통계 - 관리자용
      */
     @GetMapping("/admin/stats/by-category")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getNewsStatsByCategory() {
+    public ResponseEntity<ApiResponse<List<CategoryCount>>> getNewsStatsByCategory() {
         try {
-            List<Object[]> stats = newsService.getNewsStatsByCategory();
+            List<CategoryCount> stats = newsService.getNewsStatsByCategory();
             return ResponseEntity.ok(
                 ApiResponse.success("카테고리별 통계를 조회했습니다.", stats)
             );
@@ -228,14 +363,14 @@ public class NewsController {
      * 월별 발행 뉴스 통계 - 관리자용
      */
     @GetMapping("/admin/stats/by-month")
-    public ResponseEntity<ApiResponse<List<Object[]>>> getNewsStatsByMonth(
+    public ResponseEntity<ApiResponse<List<MonthlyCount>>> getNewsStatsByMonth(
             @RequestParam(required = false) String startDate) {
         try {
             LocalDateTime start = startDate != null ? 
                 LocalDateTime.parse(startDate) : 
                 LocalDateTime.now().minusMonths(12);
             
-            List<Object[]> stats = newsService.getNewsStatsByMonth(start);
+            List<MonthlyCount> stats = newsService.getNewsStatsByMonth(start);
             return ResponseEntity.ok(
                 ApiResponse.success("월별 뉴스 통계를 조회했습니다.", stats)
             );
@@ -244,4 +379,63 @@ public class NewsController {
                 .body(ApiResponse.error("통계 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
+    
+    /**
+     * 뉴스 캐시 통계 - 관리자용
+     */
+    @GetMapping("/admin/cache/stats")
+    public ResponseEntity<ApiResponse<List<CacheStats>>> getCacheStats() {
+        try {
+            List<CacheStats> stats = newsService.getCacheStats();
+            return ResponseEntity.ok(
+                ApiResponse.success("뉴스 캐시 통계를 조회했습니다.", stats)
+            );
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("통계 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 미리 직렬화된 스냅샷을 그대로 응답 (ETag 일치 시 304)
+     */
+    private ResponseEntity<byte[]> snapshotResponse(NewsSnapshotService.Snapshot snapshot, WebRequest request) {
+        if (request.checkNotModified(snapshot.getEtag(), newsService.getPublishedLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.getBody());
+    }
+    
+    private static ResponseEntity<StreamingResponseBody> streamResponse(StreamFormat format,
+                                                                        StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .body(body);
+    }
+    
+    /**
+     * 발행된 뉴스 컬렉션 버전/변경 시각으로 조건부 GET 처리
+     * 변경이 없으면 DB 조회나 직렬화 없이 304 응답으로 끝난다.
+     */
+    private boolean isNotModified(WebRequest request) {
+        String versionTag = newsService.getPublishedVersionTag();
+        return versionTag != null
+            && request.checkNotModified("\"" + versionTag + "\"", newsService.getPublishedLastModified());
+    }
+    
+    /**
+     * 뉴스 한 건의 마지막 변경 시각(수정/발행/등록 중 가장 늦은 시각)으로 조건부 GET 처리
+     */
+    private static boolean isNotModified(News news, WebRequest request) {
+        long lastModified = Stream.of(news.getUpdatedAt(), news.getPublishedAt(), news.getCreatedAt())
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder())
+            .map(time -> time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+            .orElse(0L);
+        return request.checkNotModified("\"" + news.getId() + "-" + Long.toString(lastModified, 36) + "\"", lastModified);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.humanaid.dto;
+
+/**
+ * 카테고리별 발행 뉴스 건수
+ */
+public class CategoryCount {
+
+    private String category;
+    private long count;
+
+    // 기본 생성자
+    public CategoryCount() {}
+
+    // 생성자
+    public CategoryCount(String category, long count) {
+        this.category = category;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
@@ -0,0 +1,65 @@
+package com.humanaid.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문의사항 목록 항목
+ * 목록 조회는 메시지 본문과 연락처/동의 항목 없이 이 컬럼들만 SELECT 한다. 전체 내용은 상세 조회(/contacts/{id})에서 내려준다.
+ */
+public class ContactSummary {
+
+    private Long id;
+    private String name;
+    private String email;
+    private String company;
+    private String inquiryType;
+    private String subject;
+    private Boolean processed;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+
+    // 기본 생성자
+    public ContactSummary() {}
+
+    // 생성자 (JPQL 생성자 표현식에서 사용하므로 인자 순서를 바꾸지 말 것)
+    public ContactSummary(Long id, String name, String email, String company, String inquiryType, String subject,
+                          Boolean processed, LocalDateTime createdAt, LocalDateTime processedAt) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.company = company;
+        this.inquiryType = inquiryType;
+        this.subject = subject;
+        this.processed = processed;
+        this.createdAt = createdAt;
+        this.processedAt = processedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getCompany() { return company; }
+    public void setCompany(String company) { this.company = company; }
+
+    public String getInquiryType() { return inquiryType; }
+    public void setInquiryType(String inquiryType) { this.inquiryType = inquiryType; }
+
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) { this.subject = subject; }
+
+    public Boolean getProcessed() { return processed; }
+    public void setProcessed(Boolean processed) { this.processed = processed; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+}
@@ -0,0 +1,47 @@
+package com.humanaid.dto;
+
+import java.time.LocalDateTime;
+
+public class MailOutboxStats {
+
+    private long pending;
+    private long failed;
+    private LocalDateTime oldestPendingAt;
+    private long sentSinceStart;
+    private long failedAttemptsSinceStart;
+    private long batchesSinceStart;
+    private int lastBatchSize;
+    private long lastBatchMillis;
+    private LocalDateTime lastDispatchAt;
+
+    // 기본 생성자
+    public MailOutboxStats() {}
+
+    // Getters and Setters
+    public long getPending() { return pending; }
+    public void setPending(long pending) { this.pending = pending; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public LocalDateTime getOldestPendingAt() { return oldestPendingAt; }
+    public void setOldestPendingAt(LocalDateTime oldestPendingAt) { this.oldestPendingAt = oldestPendingAt; }
+
+    public long getSentSinceStart() { return sentSinceStart; }
+    public void setSentSinceStart(long sentSinceStart) { this.sentSinceStart = sentSinceStart; }
+
+    public long getFailedAttemptsSinceStart() { return failedAttemptsSinceStart; }
+    public void setFailedAttemptsSinceStart(long failedAttemptsSinceStart) { this.failedAttemptsSinceStart = failedAttemptsSinceStart; }
+
+    public long getBatchesSinceStart() { return batchesSinceStart; }
+    public void setBatchesSinceStart(long batchesSinceStart) { this.batchesSinceStart = batchesSinceStart; }
+
+    public int getLastBatchSize() { return lastBatchSize; }
+    public void setLastBatchSize(int lastBatchSize) { this.lastBatchSize = lastBatchSize; }
+
+    public long getLastBatchMillis() { return lastBatchMillis; }
+    public void setLastBatchMillis(long lastBatchMillis) { this.lastBatchMillis = lastBatchMillis; }
+
+    public LocalDateTime getLastDispatchAt() { return lastDispatchAt; }
+    public void setLastDispatchAt(LocalDateTime lastDispatchAt) { this.lastDispatchAt = lastDispatchAt; }
+}
@@ -1,13 +1,26 @@
 package com.humanaid.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.humanaid.config.JpaCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "contacts")
+@Table(name = "contacts", indexes = {
+    @Index(name = "idx_contacts_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_contacts_processed_created_at", columnList = "processed, created_at"),
+    @Index(name = "idx_contacts_processed_processed_at", columnList = "processed, processed_at"),
+    @Index(name = "idx_contacts_inquiry_type_created_at", columnList = "inquiry_type, created_at"),
+    @Index(name = "idx_contacts_email_created_at", columnList = "email, created_at")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = JpaCacheConfig.CONTACT_REGION)
 public class Contact {
     
     @Id
@@ -62,9 +75,15 @@ public class Contact {
     @Column(name = "processed_at")
     private LocalDateTime processedAt;
     
+    // 중복 요청에 먼저 등록된 문의로 응답한 경우 (저장하지 않음)
+    @Transient
+    @JsonIgnore
+    private boolean replayed;
+    
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // DB 컬럼 정밀도(마이크로초)에 맞춰 저장해 키셋 커서 비교가 어긋나지 않도록 함
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
     
     // 기본 생성자
@@ -124,4 +143,7 @@ public class Contact {
     
     public LocalDateTime getProcessedAt() { return processedAt; }
     public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
-}
\ No newline at end of file
+    
+    public boolean isReplayed() { return replayed; }
+    public void setReplayed(boolean replayed) { this.replayed = replayed; }
+}
@@ -1,16 +1,30 @@
 package com.humanaid.entity;
 
+import com.humanaid.config.JpaCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = {
+    @Index(name = "idx_news_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_news_published_published_at", columnList = "published, published_at"),
+    @Index(name = "idx_news_published_category_published_at", columnList = "published, category, published_at"),
+    @Index(name = "idx_news_external_url", columnList = "external_url")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = JpaCacheConfig.NEWS_REGION)
 public class News {
     
+    // IDENTITY는 INSERT마다 키를 돌려받아야 해서 JDBC 배치가 꺼지므로 시퀀스에서 50개씩 미리 할당
+    // (MySQL은 news_seq 테이블로 시퀀스를 흉내 낸다)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_seq")
+    @SequenceGenerator(name = "news_seq", sequenceName = "news_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "제목은 필수입니다")
@@ -23,6 +37,8 @@ public class News {
     @Column(nullable = false, length = 500)
     private String summary;
     
+    // 본문은 상세 조회에서만 필요하므로 지연 로딩 (빌드 시 Hibernate 바이트코드 확장 필요)
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String content;
     
@@ -53,7 +69,8 @@ public class News {
     
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // DB 컬럼 정밀도(마이크로초)에 맞춰 저장해 키셋 커서 비교가 어긋나지 않도록 함
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         if (published && publishedAt == null) {
             publishedAt = LocalDateTime.now();
         }
@@ -0,0 +1,13 @@
+package com.humanaid.exception;
+
+/**
+ * 같은 문의사항(같은 내용 또는 같은 Idempotency-Key)을 먼저 받은 요청이 아직 저장 중일 때 발생 (409 Conflict로 응답)
+ */
+public class DuplicateSubmissionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateSubmissionException(String message) {
+        super(message);
+    }
+}
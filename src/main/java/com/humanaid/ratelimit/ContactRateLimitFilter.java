@@ -0,0 +1,259 @@
+package com.humanaid.ratelimit;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humanaid.dto.ApiResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 문의 등록(POST /contacts) 요청 속도 제한
+ * 요청 본문 파싱/검증과 DB 저장, 알림 메일 적재 전에 IP별, 이메일별 토큰 버킷을 확인하고 초과하면 바로 429로 응답한다.
+ * 이메일은 본문(최대 max-body-bytes)을 한 번 읽어 email 필드만 스트리밍으로 찾고, 읽은 본문은 컨트롤러에 그대로 다시 전달한다.
+ * 새 문의가 되지 않은 요청(검증 실패, 중복 처리 중, 저장 실패, 먼저 등록된 문의로 응답한 재시도)은 응답 후 이메일 토큰을 돌려준다.
+ */
+@Component
+public class ContactRateLimitFilter extends OncePerRequestFilter implements MeterBinder {
+    
+    private static final String CONTACT_PATH = "/contacts";
+    private static final String EMAIL_FIELD = "email";
+    
+    /**
+     * 먼저 등록된 문의로 응답한 요청 표시 (컨트롤러가 설정, 이메일 토큰을 돌려줌)
+     */
+    public static final String REPLAYED_ATTRIBUTE = ContactRateLimitFilter.class.getName() + ".REPLAYED";
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${rate-limit.contact.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${rate-limit.contact.period:10m}")
+    private Duration period;
+    
+    @Value("${rate-limit.contact.ip-limit:10}")
+    private int ipLimit;
+    
+    @Value("${rate-limit.contact.email-limit:3}")
+    private int emailLimit;
+    
+    @Value("${rate-limit.contact.sketch-width:16384}")
+    private int sketchWidth;
+    
+    @Value("${rate-limit.contact.max-body-bytes:65536}")
+    private int maxBodyBytes;
+    
+    private RateLimiter ipLimiter;
+    private RateLimiter emailLimiter;
+    
+    private final AtomicLong ipRejected = new AtomicLong();
+    private final AtomicLong emailRejected = new AtomicLong();
+    private final AtomicLong oversizeRejected = new AtomicLong();
+    
+    @PostConstruct
+    void init() {
+        ipLimiter = new RateLimiter(ipLimit, period, sketchWidth);
+        emailLimiter = new RateLimiter(emailLimit, period, sketchWidth);
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !CONTACT_PATH.equals(path);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long wait = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (wait > 0) {
+            ipRejected.incrementAndGet();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, wait, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            oversizeRejected.incrementAndGet();
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, 0, "요청 본문이 너무 큽니다.");
+            return;
+        }
+        
+        String email = extractEmail(body);
+        if (email == null) {
+            chain.doFilter(new CachedBodyRequest(request, body), response);
+            return;
+        }
+        wait = emailLimiter.tryAcquire(email);
+        if (wait > 0) {
+            emailRejected.incrementAndGet();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, wait, "같은 이메일로 너무 자주 문의하셨습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        boolean created = false;
+        try {
+            chain.doFilter(new CachedBodyRequest(request, body), response);
+            created = HttpStatusCode.valueOf(response.getStatus()).is2xxSuccessful()
+                && request.getAttribute(REPLAYED_ATTRIBUTE) == null;
+        } finally {
+            if (!created) {
+                emailLimiter.refund(email);
+            }
+        }
+    }
+    
+    /**
+     * 거부 건수 메트릭 등록 (태그 reason: ip, email, size)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindRejected(registry, "ip", ipRejected);
+        bindRejected(registry, "email", emailRejected);
+        bindRejected(registry, "size", oversizeRejected);
+    }
+    
+    private static void bindRejected(MeterRegistry registry, String reason, AtomicLong counter) {
+        FunctionCounter.builder("humanaid.ratelimit.contact.rejected", counter, AtomicLong::get)
+            .description("속도 제한으로 거부된 문의 등록 요청 수")
+            .tag("reason", reason)
+            .register(registry);
+    }
+    
+    // 최상위 객체의 email 필드만 찾는다 (형식이 잘못된 본문은 이후 요청 검증에서 처리)
+    private String extractEmail(byte[] body) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (EMAIL_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+                    String email = parser.getText().trim().toLowerCase(Locale.ROOT);
+                    return email.isEmpty() ? null : email;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return null;
+    }
+    
+    private void reject(HttpServletResponse response, HttpStatus status, long waitNanos, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        if (waitNanos > 0) {
+            // 남은 시간을 초 단위로 올림
+            long seconds = (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+    
+    /**
+     * 필터에서 읽은 본문을 다시 읽을 수 있게 감싼 요청
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        
+        private final byte[] body;
+        
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+        
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+                
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+                
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+                
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+                
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // 본문이 이미 메모리에 있으므로 바로 읽을 수 있다고 알린다
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+        
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+        
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+        
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -1,54 +1,175 @@
 package com.humanaid.repository;
 
+import com.humanaid.config.JpaCacheConfig;
+import com.humanaid.dto.CategoryCount;
+import com.humanaid.dto.MonthlyCount;
+import com.humanaid.dto.NewsSummary;
 import com.humanaid.entity.News;
+import com.humanaid.search.NewsDocument;
+import com.humanaid.store.NewsRecord;
+import com.humanaid.store.PublishedNewsVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long> {
     
-    // 발행된 뉴스만 조회 (최신순)
-    List<News> findByPublishedTrueOrderByPublishedAtDesc();
+    // 목록 조회용 요약 컬럼 (본문 content 제외)
+    String SUMMARY_SELECT = "SELECT new com.humanaid.dto.NewsSummary(n.id, n.title, n.summary, n.imageUrl, " +
+                            "n.category, n.source, n.externalUrl, n.published, n.publishedAt, n.createdAt) FROM News n ";
     
-    // 발행된 뉴스 페이징 조회
-    Page<News> findByPublishedTrueOrderByPublishedAtDesc(Pageable pageable);
+    // 발행된 뉴스 색인 대상 텍스트 페이징 조회 (검색 색인 생성용, 본문 포함)
+    @Query(value = "SELECT new com.humanaid.search.NewsDocument(n.id, n.title, n.summary, n.content) " +
+                   "FROM News n WHERE n.published = true ORDER BY n.id",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.published = true")
+    Page<NewsDocument> findPublishedDocuments(Pageable pageable);
     
-    // 카테고리별 발행된 뉴스 조회
-    List<News> findByPublishedTrueAndCategoryOrderByPublishedAtDesc(String category);
+    // 발행된 뉴스 한 건의 색인 대상 텍스트 조회 (발행 상태가 아니면 빈 값)
+    @Query("SELECT new com.humanaid.search.NewsDocument(n.id, n.title, n.summary, n.content) " +
+           "FROM News n WHERE n.id = :id AND n.published = true")
+    Optional<NewsDocument> findPublishedDocument(@Param("id") Long id);
     
-    // 최신 뉴스 N개 조회 (메인페이지용)
-    @Query("SELECT n FROM News n WHERE n.published = true ORDER BY n.publishedAt DESC")
-    List<News> findLatestNews(Pageable pageable);
+    // 뉴스 전체 필드 (오프힙 저장소 적재용, 지연 로딩되는 본문 포함)
+    String RECORD_SELECT = "SELECT new com.humanaid.store.NewsRecord(n.id, n.title, n.summary, n.content, n.imageUrl, " +
+                           "n.category, n.source, n.externalUrl, n.published, n.publishedAt, n.createdAt, n.updatedAt) FROM News n ";
     
-    // 키워드 검색 (제목, 요약, 내용에서 검색)
-    @Query("SELECT n FROM News n WHERE n.published = true AND " +
-           "(LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(n.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<News> findByKeyword(@Param("keyword") String keyword);
+    // 발행된 뉴스 전체 필드 페이징 조회 (오프힙 저장소 적재용)
+    @Query(value = RECORD_SELECT + "WHERE n.published = true ORDER BY n.id",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.published = true")
+    Page<NewsRecord> findPublishedRecords(Pageable pageable);
+    
+    // 뉴스 한 건의 전체 필드 조회
+    @Query(RECORD_SELECT + "WHERE n.id = :id")
+    Optional<NewsRecord> findRecordById(@Param("id") Long id);
+    
+    // 발행된 뉴스 상태 요약 (스냅샷 파일이 현재 DB 상태에서 저장되었는지 확인용)
+    @Query("SELECT new com.humanaid.store.PublishedNewsVersion(COUNT(n), MAX(COALESCE(n.updatedAt, n.publishedAt)), " +
+           "COALESCE(SUM(n.id), 0L)) FROM News n WHERE n.published = true")
+    PublishedNewsVersion findPublishedVersion();
+    
+    // 발행된 뉴스 요약 조회 (최신순)
+    // 발행 목록 조회는 쿼리 결과 캐시를 사용한다 (news 테이블이 변경되면 Hibernate가 무효화)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaCacheConfig.PUBLISHED_NEWS_QUERY_REGION)
+    })
+    @Query(SUMMARY_SELECT + "WHERE n.published = true ORDER BY n.publishedAt DESC")
+    List<NewsSummary> findPublishedSummaries();
+    
+    // 발행된 뉴스 요약 페이징 조회
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaCacheConfig.PUBLISHED_NEWS_QUERY_REGION)
+    })
+    @Query(value = SUMMARY_SELECT + "WHERE n.published = true ORDER BY n.publishedAt DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.published = true")
+    Page<NewsSummary> findPublishedSummaries(Pageable pageable);
+    
+    // 카테고리별 발행된 뉴스 요약 조회
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaCacheConfig.PUBLISHED_NEWS_QUERY_REGION)
+    })
+    @Query(SUMMARY_SELECT + "WHERE n.published = true AND n.category = :category ORDER BY n.publishedAt DESC")
+    List<NewsSummary> findPublishedSummariesByCategory(@Param("category") String category);
+    
+    // 발행된 뉴스 요약 스트리밍 조회 (발행일 [from, to) 범위, null 조건은 무시)
+    // 호출하는 쪽은 트랜잭션 안에서 Stream을 닫아야 한다
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + "WHERE n.published = true " +
+           "AND (:from IS NULL OR n.publishedAt >= :from) AND (:to IS NULL OR n.publishedAt < :to) " +
+           "ORDER BY n.publishedAt DESC")
+    Stream<NewsSummary> streamPublishedSummaries(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    // 카테고리별 발행된 뉴스 요약 스트리밍 조회
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + "WHERE n.published = true AND n.category = :category ORDER BY n.publishedAt DESC")
+    Stream<NewsSummary> streamPublishedSummariesByCategory(@Param("category") String category);
+    
+    // 최신 뉴스 요약 N개 조회 (메인페이지용)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaCacheConfig.PUBLISHED_NEWS_QUERY_REGION)
+    })
+    @Query(SUMMARY_SELECT + "WHERE n.published = true ORDER BY n.publishedAt DESC")
+    List<NewsSummary> findLatestSummaries(Pageable pageable);
+    
+    // ID 목록으로 요약 조회 (검색 결과 조립용, 순서는 호출 측에서 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE n.id IN :ids")
+    List<NewsSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 키워드 검색 (제목, 요약, 내용에서 검색) - 검색 색인 준비 전 대체용
+    @Query(value = SUMMARY_SELECT + "WHERE n.published = true AND " +
+                   "(LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(n.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.published = true AND " +
+                        "(LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(n.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<NewsSummary> findSummariesByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    // 이미 저장된 외부 URL 조회 (일괄 가져오기 중복 확인용)
+    @Query("SELECT n.externalUrl FROM News n WHERE n.externalUrl IN :urls")
+    List<String> findExistingExternalUrls(@Param("urls") Collection<String> urls);
     
     // 날짜 범위로 조회
     List<News> findByPublishedTrueAndPublishedAtBetweenOrderByPublishedAtDesc(
         LocalDateTime startDate, LocalDateTime endDate);
     
-    // 관리자용: 모든 뉴스 조회 (발행 여부 무관)
-    Page<News> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    // 발행된 뉴스의 마지막 변경 시각 조회
+    @Query("SELECT MAX(COALESCE(n.updatedAt, n.publishedAt)) FROM News n WHERE n.published = true")
+    LocalDateTime findLastPublishedChange();
+    
+    // 키셋 페이지네이션: 첫 페이지 (COUNT 쿼리 없음)
+    @Query(SUMMARY_SELECT + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsSummary> findFirstSummaryPageByCreatedAt(Pageable pageable);
+    
+    // 키셋 페이지네이션: 커서(createdAt, id) 이후 페이지
+    @Query(SUMMARY_SELECT + "WHERE n.createdAt < :createdAt " +
+           "OR (n.createdAt = :createdAt AND n.id < :id) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+    
+    // 관리자용: 모든 뉴스 요약 조회 (발행 여부 무관)
+    @Query(value = SUMMARY_SELECT + "ORDER BY n.createdAt DESC",
+           countQuery = "SELECT COUNT(n) FROM News n")
+    Page<NewsSummary> findAllSummaries(Pageable pageable);
     
     // 카테고리별 개수 조회
-    @Query("SELECT n.category, COUNT(n) FROM News n WHERE n.published = true GROUP BY n.category")
-    List<Object[]> countByCategory();
+    @Query("SELECT new com.humanaid.dto.CategoryCount(n.category, COUNT(n)) FROM News n " +
+           "WHERE n.published = true GROUP BY n.category ORDER BY n.category")
+    List<CategoryCount> countByCategory();
     
     // 월별 발행 뉴스 개수 조회
-    @Query("SELECT YEAR(n.publishedAt), MONTH(n.publishedAt), COUNT(n) FROM News n " +
+    @Query("SELECT new com.humanaid.dto.MonthlyCount(YEAR(n.publishedAt), MONTH(n.publishedAt), COUNT(n)) FROM News n " +
            "WHERE n.published = true AND n.publishedAt >= :startDate " +
            "GROUP BY YEAR(n.publishedAt), MONTH(n.publishedAt) " +
            "ORDER BY YEAR(n.publishedAt), MONTH(n.publishedAt)")
-    List<Object[]> countByMonth(@Param("startDate") LocalDateTime startDate);
+    List<MonthlyCount> countByMonth(@Param("startDate") LocalDateTime startDate);
+    
+    // 일자별 발행 뉴스 개수 조회 (통계 재집계용)
+    @Query("SELECT YEAR(n.publishedAt), MONTH(n.publishedAt), DAY(n.publishedAt), COUNT(n) FROM News n " +
+           "WHERE n.published = true AND n.publishedAt IS NOT NULL " +
+           "GROUP BY YEAR(n.publishedAt), MONTH(n.publishedAt), DAY(n.publishedAt)")
+    List<Object[]> countPublishedByDay();
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.humanaid.search;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검색 결과 페이지 (요청한 구간의 문서 ID와 전체 일치 건수)
+ */
+public class SearchHits {
+
+    private static final SearchHits EMPTY = new SearchHits(Collections.emptyList(), 0);
+
+    private final List<Long> ids;
+    private final int total;
+
+    public SearchHits(List<Long> ids, int total) {
+        this.ids = ids;
+        this.total = total;
+    }
+
+    public static SearchHits empty() {
+        return EMPTY;
+    }
+
+    public List<Long> getIds() { return ids; }
+
+    public int getTotal() { return total; }
+}
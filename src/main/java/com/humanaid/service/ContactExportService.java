@@ -0,0 +1,126 @@
+package com.humanaid.service;
+
+import com.humanaid.config.MetricsConfig;
+import com.humanaid.entity.Contact;
+import com.humanaid.repository.ContactRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 문의사항 내보내기 (CSV / NDJSON)
+ * DB 커서로 한 건씩 읽어 바로 출력 스트림에 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 분리해
+ * 행 수와 관계없이 일정한 메모리로 동작한다. NDJSON은 스트리밍 조회와 같은 JsonStreamWriter로 쓴다.
+ */
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Service
+public class ContactExportService {
+    
+    private static final String[] CSV_HEADER = {
+        "id", "name", "email", "company", "phone", "inquiryType", "subject", "message",
+        "privacyAgree", "marketingAgree", "createdAt", "processed", "processedAt"
+    };
+    
+    // 엑셀에서 UTF-8 한글이 깨지지 않도록 CSV 앞에 붙이는 BOM
+    private static final char UTF8_BOM = '\uFEFF';
+    
+    private static final String CACHE_RETRIEVE_MODE = "jakarta.persistence.cache.retrieveMode";
+    private static final String CACHE_STORE_MODE = "jakarta.persistence.cache.storeMode";
+    
+    @Autowired
+    private ContactRepository contactRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+    
+    /**
+     * 조건에 맞는 문의사항을 ID순으로 출력 스트림에 기록 (null 조건은 무시)
+     * 한 번 읽고 버리는 전체 행이 자주 조회하는 문의를 2차 캐시에서 밀어내지 않도록 내보내는 동안 캐시를 읽지도 쓰지도 않는다.
+     * (쿼리 힌트는 Stream의 행을 읽기 전에 풀리므로 영속성 컨텍스트 단위로 지정)
+     * 
+     * @return 내보낸 건수
+     */
+    @Transactional(readOnly = true)
+    public long export(StreamFormat format, String inquiryType, LocalDateTime from, LocalDateTime to,
+                       Boolean processed, OutputStream out) throws IOException {
+        Map<String, Object> properties = entityManager.getProperties();
+        Object retrieveMode = properties.get(CACHE_RETRIEVE_MODE);
+        Object storeMode = properties.get(CACHE_STORE_MODE);
+        entityManager.setProperty(CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+        entityManager.setProperty(CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        try (Stream<Contact> contacts = contactRepository.streamByFilter(inquiryType, from, to, processed)) {
+            Iterator<Contact> rows = contacts.iterator();
+            if (format == StreamFormat.CSV) {
+                return writeCsv(rows, out);
+            }
+            return jsonStreamWriter.write(rows, StreamFormat.NDJSON, null, entityManager::detach, out);
+        } finally {
+            entityManager.setProperty(CACHE_RETRIEVE_MODE, retrieveMode != null ? retrieveMode : CacheRetrieveMode.USE);
+            entityManager.setProperty(CACHE_STORE_MODE, storeMode != null ? storeMode : CacheStoreMode.USE);
+        }
+    }
+    
+    private long writeCsv(Iterator<Contact> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(UTF8_BOM);
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        long count = 0;
+        while (rows.hasNext()) {
+            Contact c = rows.next();
+            writeCsvLine(writer, c.getId(), c.getName(), c.getEmail(), c.getCompany(), c.getPhone(),
+                c.getInquiryType(), c.getSubject(), c.getMessage(), c.getPrivacyAgree(), c.getMarketingAgree(),
+                c.getCreatedAt(), c.getProcessed(), c.getProcessedAt());
+            entityManager.detach(c);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+    
+    // 스프레드시트가 수식으로 해석하는 첫 글자 (CSV 수식 주입)
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    
+    // RFC 4180: 구분자/따옴표/줄바꿈이 있는 값은 따옴표로 감싸고 따옴표는 두 번 쓴다
+    // 공개 문의 양식에서 들어온 문자열이 수식 문자로 시작하면 앞에 '를 붙여 엑셀에서 텍스트로 열리게 한다
+    private static void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] == null) {
+                continue;
+            }
+            String value = values[i].toString();
+            if (values[i] instanceof String && !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
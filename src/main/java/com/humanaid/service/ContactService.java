@@ -1,73 +1,146 @@
 package com.humanaid.service;
 
+import com.humanaid.config.MetricsConfig;
+import com.humanaid.dto.ContactBulkRequest;
 import com.humanaid.dto.ContactRequest;
+import com.humanaid.dto.ContactSummary;
+import com.humanaid.dto.CursorPage;
+import com.humanaid.dto.InquiryTypeCount;
+import com.humanaid.dto.MailOutboxStats;
+import com.humanaid.dto.MonthlyCount;
+import com.humanaid.dto.PageCursor;
 import com.humanaid.entity.Contact;
+import com.humanaid.exception.DuplicateSubmissionException;
 import com.humanaid.repository.ContactRepository;
+import com.humanaid.search.ContactSearchIndex;
+import com.humanaid.search.SearchHits;
+import com.humanaid.stats.ContactStatsRollup;
+import com.humanaid.stats.StatsRollupSupport;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @Service
 @Transactional
 public class ContactService {
     
+    private static final int BULK_CHUNK_SIZE = 1000;
+    
     @Autowired
     private ContactRepository contactRepository;
     
+    // fast-start 프로필에서는 메일 빈을 처음 사용할 때 만든다 (FastStartConfig)
+    @Autowired
+    private ObjectProvider<EmailService> emailService;
+    
+    @Autowired
+    private MailOutboxService mailOutboxService;
+    
+    @Autowired
+    private ContactSearchIndex contactSearchIndex;
+    
+    @Autowired
+    private ContactStatsRollup contactStatsRollup;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ContactDuplicateDetector contactDuplicateDetector;
+    
     @Autowired
-    private EmailService emailService;
+    private JsonStreamWriter jsonStreamWriter;
     
     /**
      * 문의사항 저장
      */
     public Contact saveContact(ContactRequest request) {
-        // DTO를 Entity로 변환
-        Contact contact = new Contact(
-            request.getName(),
-            request.getEmail(),
-            request.getCompany(),
-            request.getPhone(),
-            request.getInquiryType(),
-            request.getSubject(),
-            request.getMessage(),
-            request.getPrivacyAgree(),
-            request.getMarketingAgree()
-        );
-        
-        // 데이터베이스에 저장
-        Contact savedContact = contactRepository.save(contact);
+        return saveContact(request, null);
+    }
+    
+    /**
+     * 문의사항 저장 (중복 등록 방지)
+     * 최근에 같은 내용이나 같은 Idempotency-Key로 등록된 문의가 있으면 저장과 알림 메일 없이 먼저 등록된 문의의
+     * ID/등록 시각으로 응답한다. 먼저 온 요청이 아직 저장 중이면 DuplicateSubmissionException을 던진다.
+     */
+    public Contact saveContact(ContactRequest request, String idempotencyKey) {
+        List<Long> fingerprints = contactDuplicateDetector.fingerprints(request, idempotencyKey);
+        ContactDuplicateDetector.Submission previous = contactDuplicateDetector.claim(fingerprints);
+        if (previous != null) {
+            if (previous.isPending()) {
+                throw new DuplicateSubmissionException("같은 문의사항을 처리하고 있습니다. 잠시 후 다시 확인해 주세요.");
+            }
+            Contact replayed = toContact(request);
+            replayed.setId(previous.contactId());
+            replayed.setCreatedAt(previous.createdAt());
+            replayed.setReplayed(true);
+            return replayed;
+        }
         
-        // 이메일 알림 발송 (비동기)
         try {
-            emailService.sendContactNotification(savedContact);
-        } catch (Exception e) {
-            // 이메일 발송 실패해도 문의사항 저장은 성공으로 처리
-            System.err.println("이메일 발송 실패: " + e.getMessage());
+            // 데이터베이스에 저장
+            Contact savedContact = contactRepository.save(toContact(request));
+            eventPublisher.publishEvent(new ContactChangedEvent(
+                savedContact.getId(), savedContact.getInquiryType(), savedContact.getCreatedAt(), 1));
+            
+            // 관리자 알림 메일은 같은 트랜잭션에서 아웃박스에 저장 (발송은 MailOutboxDispatcher가 담당)
+            mailOutboxService.enqueue(emailService.getObject().buildContactNotification(savedContact));
+            
+            contactDuplicateDetector.complete(fingerprints, savedContact);
+            return savedContact;
+        } catch (RuntimeException e) {
+            contactDuplicateDetector.release(fingerprints);
+            throw e;
         }
-        
-        return savedContact;
     }
     
     /**
      * 모든 문의사항 조회 (페이징)
      */
     @Transactional(readOnly = true)
-    public Page<Contact> getAllContacts(Pageable pageable) {
-        return contactRepository.findAllByOrderByCreatedAtDesc(pageable);
+    public Page<ContactSummary> getAllContacts(Pageable pageable) {
+        return contactRepository.findAllSummaries(pageable);
+    }
+    
+    /**
+     * 모든 문의사항 조회 (키셋 페이지네이션, 전체 건수는 요청 시에만 계산)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ContactSummary> getAllContacts(String cursor, int size, boolean withTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ContactSummary> rows = after == null
+            ? contactRepository.findFirstSummaryPageByCreatedAt(limit)
+            : contactRepository.findSummaryPageAfter(after.getCreatedAt(), after.getId(), limit);
+        Long total = withTotal ? contactRepository.count() : null;
+        return CursorPage.of(rows, size, c -> new PageCursor(c.getCreatedAt(), c.getId()), total);
     }
     
     /**
      * 처리되지 않은 문의사항 조회
      */
     @Transactional(readOnly = true)
-    public List<Contact> getUnprocessedContacts() {
-        return contactRepository.findByProcessedFalseOrderByCreatedAtDesc();
+    public List<ContactSummary> getUnprocessedContacts() {
+        return contactRepository.findUnprocessedSummaries();
     }
     
     /**
@@ -100,20 +173,123 @@ public class ContactService {
         throw new RuntimeException("문의사항을 찾을 수 없습니다. ID: " + id);
     }
     
+    /**
+     * 문의사항 일괄 처리 완료 표시 (ID 목록 또는 조건, 단일 UPDATE 문)
+     * 
+     * processed 조건은 삭제 전용이다. 처리 완료 표시는 미처리 문의만 대상이므로 processed만 지정한 요청이
+     * 전체 문의를 처리 완료로 바꾸지 않도록 거부한다.
+     * 
+     * @return 새로 처리 완료된 건수 (이미 처리된 문의는 제외)
+     */
+    public int markAsProcessed(ContactBulkRequest request) {
+        if (request.getProcessed() != null) {
+            throw new IllegalArgumentException("처리 완료 표시에는 processed 조건을 지정할 수 없습니다.");
+        }
+        validateBulkRequest(request);
+        LocalDateTime now = LocalDateTime.now();
+        if (!request.hasIds()) {
+            return contactRepository.markProcessedByFilter(
+                request.getInquiryType(), request.getFrom(), request.getTo(), now);
+        }
+        int updated = 0;
+        for (List<Long> chunk : chunks(request.getIds())) {
+            updated += contactRepository.markProcessedByIds(chunk, now);
+        }
+        return updated;
+    }
+    
+    /**
+     * 문의사항 일괄 삭제 (ID 목록 또는 조건)
+     * ID 목록은 통계/검색 색인 갱신에 필요한 유형과 접수 일시를 조회한 뒤 ID 묶음 단위 DELETE 문으로 삭제하고 건별 이벤트를 발행한다.
+     * 조건은 유형/일자별 건수만 집계한 뒤 DELETE 문 하나로 삭제하고, 그 건수를 담은 이벤트 하나만 발행한다.
+     * 
+     * @return 삭제된 건수
+     */
+    public int deleteContacts(ContactBulkRequest request) {
+        validateBulkRequest(request);
+        if (!request.hasIds()) {
+            return deleteContactsByFilter(request);
+        }
+        List<ContactSummary> targets = new ArrayList<>();
+        for (List<Long> chunk : chunks(request.getIds())) {
+            targets.addAll(contactRepository.findSummariesByIdIn(chunk));
+        }
+        List<Long> ids = targets.stream().map(ContactSummary::getId).toList();
+        int deleted = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            deleted += contactRepository.deleteByIds(chunk);
+        }
+        for (ContactSummary contact : targets) {
+            eventPublisher.publishEvent(new ContactChangedEvent(
+                contact.getId(), contact.getInquiryType(), contact.getCreatedAt(), -1));
+        }
+        return deleted;
+    }
+    
+    private int deleteContactsByFilter(ContactBulkRequest request) {
+        List<Object[]> groups = contactRepository.countByTypeAndDayForFilter(
+            request.getInquiryType(), request.getFrom(), request.getTo(), request.getProcessed());
+        int deleted = contactRepository.deleteByFilter(
+            request.getInquiryType(), request.getFrom(), request.getTo(), request.getProcessed());
+        List<ContactsDeletedEvent.DeletedCount> counts = new ArrayList<>(groups.size());
+        for (Object[] row : groups) {
+            LocalDate day = LocalDate.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue(), ((Number) row[3]).intValue());
+            counts.add(new ContactsDeletedEvent.DeletedCount((String) row[0], day, ((Number) row[4]).longValue()));
+        }
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new ContactsDeletedEvent(counts));
+        }
+        return deleted;
+    }
+    
     /**
      * 문의 유형별 조회
      */
     @Transactional(readOnly = true)
-    public List<Contact> getContactsByInquiryType(String inquiryType) {
-        return contactRepository.findByInquiryTypeOrderByCreatedAtDesc(inquiryType);
+    public List<ContactSummary> getContactsByInquiryType(String inquiryType) {
+        return contactRepository.findSummariesByInquiryType(inquiryType);
+    }
+    
+    /**
+     * 키워드 검색 (검색 색인 기반, 관련도순 페이징)
+     * 색인이 준비되기 전에는 DB 검색으로 대체한다.
+     */
+    @Transactional(readOnly = true)
+    public Page<ContactSummary> searchContacts(String keyword, Pageable pageable) {
+        if (!contactSearchIndex.isReady()) {
+            return contactRepository.findSummariesByKeyword(keyword, pageable);
+        }
+        SearchHits hits = contactSearchIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.getIds().isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, hits.getTotal());
+        }
+        
+        Map<Long, ContactSummary> found = new HashMap<>();
+        for (ContactSummary contact : contactRepository.findSummariesByIdIn(hits.getIds())) {
+            found.put(contact.getId(), contact);
+        }
+        List<ContactSummary> content = new ArrayList<>(hits.getIds().size());
+        for (Long id : hits.getIds()) {
+            ContactSummary contact = found.get(id);
+            if (contact != null) {
+                content.add(contact);
+            }
+        }
+        return new PageImpl<>(content, pageable, hits.getTotal());
     }
     
     /**
-     * 키워드 검색
+     * 조건에 맞는 문의 요약을 최신순으로 출력 스트림에 기록 (null 조건은 무시, 날짜는 [from, to) 범위)
+     * 결과를 목록으로 모으지 않고 DB 커서에서 읽는 대로 쓴다.
+     * 
+     * @return 기록한 건수
      */
     @Transactional(readOnly = true)
-    public List<Contact> searchContacts(String keyword) {
-        return contactRepository.findByKeyword(keyword);
+    public long streamContacts(String inquiryType, LocalDateTime from, LocalDateTime to, Boolean processed,
+                               StreamFormat format, String message, OutputStream out) throws IOException {
+        try (Stream<ContactSummary> contacts = contactRepository.streamSummariesByFilter(inquiryType, from, to, processed)) {
+            return jsonStreamWriter.write(contacts, format, message, out);
+        }
     }
     
     /**
@@ -125,29 +301,82 @@ public class ContactService {
     }
     
     /**
-     * 문의 유형별 통계
+     * 문의 유형별 통계 (증분 집계, 준비 전에는 DB 집계)
      */
     @Transactional(readOnly = true)
-    public List<Object[]> getContactStatsByInquiryType() {
+    public List<InquiryTypeCount> getContactStatsByInquiryType() {
+        if (contactStatsRollup.isReady()) {
+            List<InquiryTypeCount> stats = new ArrayList<>();
+            contactStatsRollup.countsByKey().forEach((inquiryType, count) -> stats.add(new InquiryTypeCount(inquiryType, count)));
+            return stats;
+        }
         return contactRepository.countByInquiryType();
     }
     
     /**
-     * 월별 문의 통계
+     * 월별 문의 통계 (증분 집계, 준비 전에는 DB 집계, startDate가 속한 날 0시부터)
      */
     @Transactional(readOnly = true)
-    public List<Object[]> getContactStatsByMonth(LocalDateTime startDate) {
-        return contactRepository.countByMonth(startDate);
+    public List<MonthlyCount> getContactStatsByMonth(LocalDateTime startDate) {
+        if (contactStatsRollup.isReady()) {
+            return contactStatsRollup.countsByMonth(startDate);
+        }
+        // 증분 집계와 같은 범위가 되도록 일자 단위로 맞춘다
+        return contactRepository.countByMonth(StatsRollupSupport.startOfDay(startDate));
+    }
+    
+    /**
+     * 알림 메일 아웃박스 현황
+     */
+    @Transactional(readOnly = true)
+    public MailOutboxStats getMailOutboxStats() {
+        return mailOutboxService.getStats();
     }
     
     /**
      * 문의사항 삭제
      */
     public void deleteContact(Long id) {
-        if (contactRepository.existsById(id)) {
-            contactRepository.deleteById(id);
+        Optional<Contact> contactOpt = contactRepository.findById(id);
+        if (contactOpt.isPresent()) {
+            Contact contact = contactOpt.get();
+            contactRepository.delete(contact);
+            eventPublisher.publishEvent(new ContactChangedEvent(id, contact.getInquiryType(), contact.getCreatedAt(), -1));
         } else {
             throw new RuntimeException("문의사항을 찾을 수 없습니다. ID: " + id);
         }
     }
-}
\ No newline at end of file
+    
+    // DTO를 Entity로 변환
+    private static Contact toContact(ContactRequest request) {
+        return new Contact(
+            request.getName(),
+            request.getEmail(),
+            request.getCompany(),
+            request.getPhone(),
+            request.getInquiryType(),
+            request.getSubject(),
+            request.getMessage(),
+            request.getPrivacyAgree(),
+            request.getMarketingAgree()
+        );
+    }
+    
+    private static void validateBulkRequest(ContactBulkRequest request) {
+        if (request.hasIds() && request.hasFilter()) {
+            throw new IllegalArgumentException("ID 목록과 조건은 함께 지정할 수 없습니다.");
+        }
+        if (!request.hasIds() && !request.hasFilter()) {
+            throw new IllegalArgumentException("ID 목록이나 조건(inquiryType, from, to, processed)을 하나 이상 지정해야 합니다.");
+        }
+    }
+    
+    // IN 목록이 너무 길어지지 않도록 ID를 묶음 단위로 나눈다
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -1,18 +1,53 @@
 package com.humanaid.service;
 
+import com.humanaid.config.CacheConfig;
+import com.humanaid.config.MetricsConfig;
+import com.humanaid.dto.CacheStats;
+import com.humanaid.dto.CategoryCount;
+import com.humanaid.dto.CursorPage;
+import com.humanaid.dto.MonthlyCount;
+import com.humanaid.dto.NewsSummary;
+import com.humanaid.dto.PageCursor;
 import com.humanaid.entity.News;
 import com.humanaid.repository.NewsRepository;
+import com.humanaid.search.NewsSearchIndex;
+import com.humanaid.search.SearchHits;
+import com.humanaid.stats.NewsStatsRollup;
+import com.humanaid.stats.StatsRollupSupport;
+import com.humanaid.store.NewsRecord;
+import com.humanaid.store.OffHeapNewsStore;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @Service
 @Transactional
 public class NewsService {
@@ -20,60 +55,167 @@ public class NewsService {
     @Autowired
     private NewsRepository newsRepository;
     
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+    
+    @Autowired
+    private NewsStatsRollup newsStatsRollup;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+    
+    @Autowired
+    private OffHeapNewsStore offHeapNewsStore;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // 발행된 뉴스 컬렉션 버전 (조건부 GET의 ETag로 사용, 재시작/인스턴스 구분을 위해 기동 시각 포함)
+    private final String versionEpoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong publishedVersion = new AtomicLong();
+    private volatile long publishedLastModified = System.currentTimeMillis();
+    
+    // 뉴스 캐시 세대 (변경이 커밋되어 캐시를 비울 때마다 증가)
+    // 변경 전에 조회를 시작한 요청이 무효화 이후에 이전 값을 다시 넣지 않도록, 조회 전에 읽은 세대가 그대로일 때만 캐시에 넣는다.
+    private final AtomicLong cacheGeneration = new AtomicLong();
+    private final Object cacheLock = new Object();
+    
     /**
      * 뉴스 저장
      */
     public News saveNews(News news) {
-        return newsRepository.save(news);
+        News savedNews = newsRepository.save(news);
+        onNewsChanged(savedNews.getId(), null, NewsChangedEvent.State.of(savedNews));
+        return savedNews;
+    }
+    
+    /**
+     * 뉴스 일괄 저장 (가져오기용, 한 트랜잭션에서 JDBC 배치 INSERT)
+     */
+    public List<News> saveAllNews(List<News> news) {
+        List<News> savedNews = newsRepository.saveAll(news);
+        for (News saved : savedNews) {
+            onNewsChanged(saved.getId(), null, NewsChangedEvent.State.of(saved));
+        }
+        return savedNews;
     }
     
     /**
      * 발행된 뉴스 전체 조회 (최신순)
      */
     @Transactional(readOnly = true)
-    public List<News> getPublishedNews() {
-        return newsRepository.findByPublishedTrueOrderByPublishedAtDesc();
+    public List<NewsSummary> getPublishedNews() {
+        return cached(CacheConfig.PUBLISHED_NEWS, "all", newsRepository::findPublishedSummaries);
     }
     
     /**
      * 발행된 뉴스 페이징 조회
      */
     @Transactional(readOnly = true)
-    public Page<News> getPublishedNews(Pageable pageable) {
-        return newsRepository.findByPublishedTrueOrderByPublishedAtDesc(pageable);
+    public Page<NewsSummary> getPublishedNews(Pageable pageable) {
+        return cached(CacheConfig.PUBLISHED_NEWS, pageable, () -> newsRepository.findPublishedSummaries(pageable));
+    }
+    
+    /**
+     * 발행된 뉴스 요약을 최신순으로 출력 스트림에 기록 (발행일 [from, to) 범위, null 조건은 무시)
+     * 결과를 목록으로 모으지 않고 DB 커서에서 읽는 대로 쓴다.
+     * 
+     * @return 기록한 건수
+     */
+    @Transactional(readOnly = true)
+    public long streamPublishedNews(LocalDateTime from, LocalDateTime to,
+                                    StreamFormat format, OutputStream out) throws IOException {
+        try (Stream<NewsSummary> news = newsRepository.streamPublishedSummaries(from, to)) {
+            return jsonStreamWriter.write(news, format, "발행된 뉴스 목록을 조회했습니다.", out);
+        }
     }
     
     /**
      * 최신 뉴스 N개 조회 (메인페이지용)
      */
     @Transactional(readOnly = true)
-    public List<News> getLatestNews(int limit) {
+    public List<NewsSummary> getLatestNews(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        return newsRepository.findLatestNews(pageable);
+        return cached(CacheConfig.LATEST_NEWS, limit, () -> newsRepository.findLatestSummaries(pageable));
     }
     
     /**
      * 카테고리별 뉴스 조회
      */
     @Transactional(readOnly = true)
-    public List<News> getNewsByCategory(String category) {
-        return newsRepository.findByPublishedTrueAndCategoryOrderByPublishedAtDesc(category);
+    public List<NewsSummary> getNewsByCategory(String category) {
+        return cached(CacheConfig.NEWS_BY_CATEGORY, category, () -> newsRepository.findPublishedSummariesByCategory(category));
     }
     
     /**
-     * 뉴스 상세 조회
+     * 카테고리별 발행된 뉴스 요약을 최신순으로 출력 스트림에 기록
+     * 
+     * @return 기록한 건수
      */
     @Transactional(readOnly = true)
+    public long streamNewsByCategory(String category, StreamFormat format, OutputStream out) throws IOException {
+        try (Stream<NewsSummary> news = newsRepository.streamPublishedSummariesByCategory(category)) {
+            return jsonStreamWriter.write(news, format, "카테고리별 뉴스를 조회했습니다.", out);
+        }
+    }
+    
+    /**
+     * 뉴스 상세 조회 (지연 로딩되는 본문 포함)
+     * 오프힙 저장소를 쓰면 힙 캐시(newsDetail) 대신 저장소에서 읽고, 저장소에 없는 발행 뉴스는 DB에서 읽어 저장해 둔다.
+     * 저장소에서 읽을 때는 트랜잭션(DB 커넥션)을 시작하지 않도록 SUPPORTS로 두고, DB 조회만 읽기 전용 트랜잭션에서 한다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Optional<News> getNewsById(Long id) {
-        return newsRepository.findById(id);
+        if (offHeapNewsStore.isEnabled()) {
+            Optional<NewsRecord> stored = offHeapNewsStore.get(id);
+            if (stored.isPresent()) {
+                return stored.map(NewsRecord::toNews);
+            }
+            long generation = offHeapNewsStore.generation();
+            Optional<NewsRecord> record = newsRepository.findRecordById(id);
+            record.ifPresent(r -> offHeapNewsStore.put(r, generation));
+            return record.map(NewsRecord::toNews);
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        // 없는 뉴스는 캐시하지 않는다
+        return Optional.ofNullable(cached(CacheConfig.NEWS_DETAIL, id,
+            () -> readOnly.execute(status -> newsRepository.findById(id).map(NewsService::withContent).orElse(null))));
     }
     
     /**
-     * 키워드 검색
+     * 키워드 검색 (검색 색인 기반, 관련도순 페이징)
+     * 색인이 준비되기 전에는 DB 검색으로 대체한다.
      */
     @Transactional(readOnly = true)
-    public List<News> searchNews(String keyword) {
-        return newsRepository.findByKeyword(keyword);
+    public Page<NewsSummary> searchNews(String keyword, Pageable pageable) {
+        if (!newsSearchIndex.isReady()) {
+            return newsRepository.findSummariesByKeyword(keyword, pageable);
+        }
+        SearchHits hits = newsSearchIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        List<Long> pageIds = hits.getIds();
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, hits.getTotal());
+        }
+        
+        Map<Long, NewsSummary> found = new HashMap<>();
+        for (NewsSummary news : newsRepository.findSummariesByIdIn(pageIds)) {
+            found.put(news.getId(), news);
+        }
+        List<NewsSummary> content = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            NewsSummary news = found.get(id);
+            if (news != null) {
+                content.add(news);
+            }
+        }
+        return new PageImpl<>(content, pageable, hits.getTotal());
     }
     
     /**
@@ -88,8 +230,22 @@ public class NewsService {
      * 관리자용: 모든 뉴스 조회 (발행 여부 무관)
      */
     @Transactional(readOnly = true)
-    public Page<News> getAllNews(Pageable pageable) {
-        return newsRepository.findAllByOrderByCreatedAtDesc(pageable);
+    public Page<NewsSummary> getAllNews(Pageable pageable) {
+        return newsRepository.findAllSummaries(pageable);
+    }
+    
+    /**
+     * 관리자용: 모든 뉴스 조회 (키셋 페이지네이션, 전체 건수는 요청 시에만 계산)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NewsSummary> getAllNews(String cursor, int size, boolean withTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<NewsSummary> rows = after == null
+            ? newsRepository.findFirstSummaryPageByCreatedAt(limit)
+            : newsRepository.findSummaryPageAfter(after.getCreatedAt(), after.getId(), limit);
+        Long total = withTotal ? newsRepository.count() : null;
+        return CursorPage.of(rows, size, n -> new PageCursor(n.getCreatedAt(), n.getId()), total);
     }
     
     /**
@@ -99,11 +255,14 @@ public class NewsService {
         Optional<News> newsOpt = newsRepository.findById(id);
         if (newsOpt.isPresent()) {
             News news = newsOpt.get();
+            NewsChangedEvent.State previous = NewsChangedEvent.State.of(news);
             news.setPublished(!news.getPublished());
             if (news.getPublished() && news.getPublishedAt() == null) {
                 news.setPublishedAt(LocalDateTime.now());
             }
-            return newsRepository.save(news);
+            News savedNews = newsRepository.save(news);
+            onNewsChanged(id, previous, NewsChangedEvent.State.of(savedNews));
+            return withContent(savedNews);
         }
         throw new RuntimeException("뉴스를 찾을 수 없습니다. ID: " + id);
     }
@@ -115,6 +274,7 @@ public class NewsService {
         Optional<News> newsOpt = newsRepository.findById(id);
         if (newsOpt.isPresent()) {
             News news = newsOpt.get();
+            NewsChangedEvent.State previous = NewsChangedEvent.State.of(news);
             news.setTitle(updatedNews.getTitle());
             news.setSummary(updatedNews.getSummary());
             news.setContent(updatedNews.getContent());
@@ -122,7 +282,9 @@ public class NewsService {
             news.setCategory(updatedNews.getCategory());
             news.setSource(updatedNews.getSource());
             news.setExternalUrl(updatedNews.getExternalUrl());
-            return newsRepository.save(news);
+            News savedNews = newsRepository.save(news);
+            onNewsChanged(id, previous, NewsChangedEvent.State.of(savedNews));
+            return savedNews;
         }
         throw new RuntimeException("뉴스를 찾을 수 없습니다. ID: " + id);
     }
@@ -131,26 +293,174 @@ public class NewsService {
      * 뉴스 삭제
      */
     public void deleteNews(Long id) {
-        if (newsRepository.existsById(id)) {
-            newsRepository.deleteById(id);
+        Optional<News> newsOpt = newsRepository.findById(id);
+        if (newsOpt.isPresent()) {
+            News news = newsOpt.get();
+            newsRepository.delete(news);
+            onNewsChanged(id, NewsChangedEvent.State.of(news), null);
         } else {
             throw new RuntimeException("뉴스를 찾을 수 없습니다. ID: " + id);
         }
     }
     
     /**
-     * 카테고리별 통계
+     * 카테고리별 통계 (증분 집계, 준비 전에는 DB 집계)
      */
     @Transactional(readOnly = true)
-    public List<Object[]> getNewsStatsByCategory() {
+    public List<CategoryCount> getNewsStatsByCategory() {
+        if (newsStatsRollup.isReady()) {
+            List<CategoryCount> stats = new ArrayList<>();
+            newsStatsRollup.countsByKey().forEach((category, count) -> stats.add(new CategoryCount(category, count)));
+            return stats;
+        }
         return newsRepository.countByCategory();
     }
     
     /**
-     * 월별 발행 뉴스 통계
+     * 월별 발행 뉴스 통계 (증분 집계, 준비 전에는 DB 집계, startDate가 속한 날 0시부터)
      */
     @Transactional(readOnly = true)
-    public List<Object[]> getNewsStatsByMonth(LocalDateTime startDate) {
-        return newsRepository.countByMonth(startDate);
+    public List<MonthlyCount> getNewsStatsByMonth(LocalDateTime startDate) {
+        if (newsStatsRollup.isReady()) {
+            return newsStatsRollup.countsByMonth(startDate);
+        }
+        // 증분 집계와 같은 범위가 되도록 일자 단위로 맞춘다
+        return newsRepository.countByMonth(StatsRollupSupport.startOfDay(startDate));
+    }
+    
+    /**
+     * 뉴스 캐시 통계 (적중/미스/제거 횟수)
+     */
+    public List<CacheStats> getCacheStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                com.github.benmanes.caffeine.cache.stats.CacheStats s = nativeCache.stats();
+                stats.add(new CacheStats(name, nativeCache.estimatedSize(),
+                    s.hitCount(), s.missCount(), s.evictionCount(), s.hitRate()));
+            }
+        }
+        return stats;
+    }
+    
+    /**
+     * 변경 이벤트 발행 (캐시 무효화와 버전 증가는 커밋 후 onNewsChangeCommitted에서)
+     */
+    private void onNewsChanged(Long id, NewsChangedEvent.State previous, NewsChangedEvent.State current) {
+        eventPublisher.publishEvent(new NewsChangedEvent(id, previous, current));
+    }
+    
+    /**
+     * 뉴스 조회 캐시를 모두 비우고 컬렉션 버전 증가 (다른 인스턴스의 변경을 반영할 때)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void invalidateCaches() {
+        synchronized (cacheLock) {
+            cacheGeneration.incrementAndGet();
+            clear(CacheConfig.PUBLISHED_NEWS);
+            clear(CacheConfig.LATEST_NEWS);
+            clear(CacheConfig.NEWS_BY_CATEGORY);
+            clear(CacheConfig.NEWS_DETAIL);
+        }
+        publishedVersion.incrementAndGet();
+        publishedLastModified = System.currentTimeMillis();
+    }
+    
+    /**
+     * 캐시에 있으면 반환하고, 없으면 조회해 캐시에 넣는다 (null은 캐시하지 않음)
+     * 조회하는 동안 캐시가 무효화되었으면 조회 결과가 변경 이전 값일 수 있으므로 넣지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String cacheName, Object key, Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Cache.ValueWrapper hit = cache.get(key);
+        if (hit != null) {
+            return (T) hit.get();
+        }
+        long generation = cacheGeneration.get();
+        T value = loader.get();
+        if (value != null) {
+            synchronized (cacheLock) {
+                if (generation == cacheGeneration.get()) {
+                    cache.put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+    
+    /**
+     * 지연 로딩되는 본문을 트랜잭션 안에서 읽어 둔다 (캐시에 넣거나 응답으로 직렬화할 엔티티용)
+     */
+    private static News withContent(News news) {
+        news.getContent();
+        return news;
+    }
+    
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+    
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+    
+    /**
+     * 발행된 뉴스 컬렉션 버전 태그
+     */
+    public String getPublishedVersionTag() {
+        return versionEpoch + "-" + publishedVersion.get();
+    }
+    
+    /**
+     * 발행된 뉴스 컬렉션의 마지막 변경 시각 (epoch millis)
+     */
+    public long getPublishedLastModified() {
+        return publishedLastModified;
+    }
+    
+    /**
+     * 기동 시 발행된 뉴스의 마지막 변경 시각을 DB에서 읽어 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initPublishedLastModified() {
+        LocalDateTime lastChanged = newsRepository.findLastPublishedChange();
+        if (lastChanged != null) {
+            publishedLastModified = lastChanged.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+    }
+    
+    /**
+     * 변경이 커밋되면 해당 캐시 항목을 무효화한 뒤 컬렉션 버전 증가
+     * 발행 목록에 영향을 주는 변경일 때만 목록 캐시를 비우고 버전을 올린다.
+     * 버전을 먼저 올리면 무효화 전까지 새 ETag로 이전 본문이 나갈 수 있으므로 반드시 무효화 이후에 올린다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChangeCommitted(NewsChangedEvent event) {
+        synchronized (cacheLock) {
+            cacheGeneration.incrementAndGet();
+            if (event.getNewsId() != null) {
+                evict(CacheConfig.NEWS_DETAIL, event.getNewsId());
+            }
+            if (event.isAffectsPublished()) {
+                clear(CacheConfig.PUBLISHED_NEWS);
+                clear(CacheConfig.LATEST_NEWS);
+                for (String category : event.getCategories()) {
+                    evict(CacheConfig.NEWS_BY_CATEGORY, category);
+                }
+            }
+        }
+        if (event.isAffectsPublished()) {
+            publishedVersion.incrementAndGet();
+            publishedLastModified = System.currentTimeMillis();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.humanaid.stats;
+
+import com.humanaid.dto.CategoryCount;
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.service.NewsChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 발행 뉴스 통계 집계 (카테고리별 / 발행 월별)
+ */
+@Component
+public class NewsStatsRollup extends StatsRollupSupport {
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    /**
+     * 뉴스 변경이 커밋되면 변경 전 발행 상태는 빼고 변경 후 발행 상태는 더함
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        NewsChangedEvent.State previous = event.getPrevious();
+        NewsChangedEvent.State current = event.getCurrent();
+        if (previous != null && previous.published()) {
+            rollup.apply(previous.category(), dayOf(previous.publishedAt()), -1);
+        }
+        if (current != null && current.published()) {
+            rollup.apply(current.category(), dayOf(current.publishedAt()), 1);
+        }
+    }
+
+    @Override
+    protected Map<String, Long> loadKeyCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (CategoryCount row : newsRepository.countByCategory()) {
+            counts.put(row.getCategory(), row.getCount());
+        }
+        return counts;
+    }
+
+    @Override
+    protected List<Object[]> loadDayCounts() {
+        return newsRepository.countPublishedByDay();
+    }
+}
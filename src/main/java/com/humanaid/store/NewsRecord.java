@@ -0,0 +1,29 @@
+package com.humanaid.store;
+
+import com.humanaid.entity.News;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오프힙 저장소에 보관하는 뉴스 한 건의 전체 필드
+ * News.content가 지연 로딩이므로 저장소 적재 시에는 엔티티 대신 본문까지 한 번의 쿼리로 조회한다.
+ */
+public record NewsRecord(Long id, String title, String summary, String content, String imageUrl,
+                         String category, String source, String externalUrl, boolean published,
+                         LocalDateTime publishedAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    /**
+     * 응답용 News 객체로 변환 (영속성 컨텍스트와 무관한 새 객체)
+     */
+    public News toNews() {
+        News news = new News(title, summary, content, category, source);
+        news.setId(id);
+        news.setImageUrl(imageUrl);
+        news.setExternalUrl(externalUrl);
+        news.setPublished(published);
+        news.setPublishedAt(publishedAt);
+        news.setCreatedAt(createdAt);
+        news.setUpdatedAt(updatedAt);
+        return news;
+    }
+}
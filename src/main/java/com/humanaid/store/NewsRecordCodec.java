@@ -0,0 +1,108 @@
+package com.humanaid.store;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * NewsRecord 바이너리 인코딩
+ * 형식: 버전(1) | id(8) | 발행 여부(1) | 발행/생성/수정 시각(각 12) | 문자열 7개(길이 4 + UTF-8, null이면 길이 -1)
+ * 필드 이름이나 JSON 구조 없이 값만 저장해 JSON 직렬화보다 작고, 읽을 때 필요한 객체만 만든다.
+ */
+public final class NewsRecordCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final long NULL_SECONDS = Long.MIN_VALUE;
+
+    // 버전 + id + 발행 여부 + 시각 3개
+    private static final int FIXED_BYTES = 1 + Long.BYTES + 1 + 3 * (Long.BYTES + Integer.BYTES);
+
+    private NewsRecordCodec() {}
+
+    public static byte[] encode(NewsRecord record) {
+        byte[][] strings = {
+            utf8(record.title()), utf8(record.summary()), utf8(record.content()), utf8(record.imageUrl()),
+            utf8(record.category()), utf8(record.source()), utf8(record.externalUrl())
+        };
+        int size = FIXED_BYTES;
+        for (byte[] value : strings) {
+            size += Integer.BYTES + (value != null ? value.length : 0);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(FORMAT_VERSION);
+        buffer.putLong(record.id());
+        buffer.put((byte) (record.published() ? 1 : 0));
+        putTime(buffer, record.publishedAt());
+        putTime(buffer, record.createdAt());
+        putTime(buffer, record.updatedAt());
+        for (byte[] value : strings) {
+            if (value == null) {
+                buffer.putInt(NULL_LENGTH);
+            } else {
+                buffer.putInt(value.length);
+                buffer.put(value);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * buffer의 현재 위치부터 한 건을 읽는다 (위치는 레코드 끝으로 이동)
+     */
+    public static NewsRecord decode(ByteBuffer buffer) {
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 뉴스 레코드 형식입니다: " + version);
+        }
+        long id = buffer.getLong();
+        boolean published = buffer.get() != 0;
+        LocalDateTime publishedAt = getTime(buffer);
+        LocalDateTime createdAt = getTime(buffer);
+        LocalDateTime updatedAt = getTime(buffer);
+        return new NewsRecord(id, getString(buffer), getString(buffer), getString(buffer), getString(buffer),
+            getString(buffer), getString(buffer), getString(buffer), published, publishedAt, createdAt, updatedAt);
+    }
+
+    /**
+     * 레코드를 디코딩하지 않고 ID만 읽는다 (buffer 위치는 바꾸지 않음)
+     */
+    public static long idOf(ByteBuffer buffer) {
+        byte version = buffer.get(buffer.position());
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 뉴스 레코드 형식입니다: " + version);
+        }
+        return buffer.getLong(buffer.position() + 1);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        if (time == null) {
+            buffer.putLong(NULL_SECONDS).putInt(0);
+        } else {
+            buffer.putLong(time.toEpochSecond(ZoneOffset.UTC)).putInt(time.getNano());
+        }
+    }
+
+    private static LocalDateTime getTime(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return seconds == NULL_SECONDS ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,212 @@
+package com.humanaid.store;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 발행 뉴스 읽기 모델 스냅샷 파일
+ * 형식: 매직(4) | 파일 형식 버전(4) | 본문 길이(8) | 본문 CRC32C(8) | 본문
+ * 본문: 데이터 버전 | 저장 시각(8) | 최신 뉴스 JSON | 첫 페이지 JSON | (레코드 길이(4) | NewsRecordCodec 레코드)* | -1
+ * 임시 파일에 쓴 뒤 이름을 바꿔 교체하므로 저장 도중 종료되어도 이전 파일이 남는다.
+ * 읽을 때는 파일을 메모리 매핑해 체크섬을 확인하고, 레코드는 디코딩 없이 바이트 그대로 넘긴다.
+ */
+public final class NewsSnapshotFile {
+
+    // "HNS1"
+    static final int MAGIC = 0x484E5331;
+
+    static final int FORMAT_VERSION = 1;
+
+    static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    private static final int END_OF_RECORDS = -1;
+
+    private static final int NULL_LENGTH = -1;
+
+    private NewsSnapshotFile() {}
+
+    /**
+     * 미리 직렬화된 JSON 응답 (size는 최신 뉴스 개수 또는 페이지 크기)
+     */
+    public record JsonSnapshot(int size, byte[] body, String etag) {}
+
+    /**
+     * 읽어 들인 스냅샷 (records는 매핑된 파일의 레코드 구간, 레코드 길이 | 레코드 반복 후 -1)
+     */
+    public record Contents(String dataVersion, long savedAt, JsonSnapshot latest, JsonSnapshot firstPage,
+                           ByteBuffer records) {}
+
+    /**
+     * 저장할 레코드 공급자 (인코딩된 레코드를 하나씩 writer에 전달)
+     */
+    @FunctionalInterface
+    public interface RecordSource {
+        void forEachRecord(Consumer<ByteBuffer> writer);
+    }
+
+    public static void write(Path path, String dataVersion, long savedAt, JsonSnapshot latest,
+                             JsonSnapshot firstPage, RecordSource records) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            long bodyLength;
+            long checksum;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                // 머리글은 본문을 다 쓴 뒤 채운다
+                channel.write(ByteBuffer.allocate(HEADER_BYTES));
+                CRC32C crc = new CRC32C();
+                CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), crc);
+                DataOutputStream out = new DataOutputStream(checked);
+                putString(out, dataVersion);
+                out.writeLong(savedAt);
+                putJson(out, latest);
+                putJson(out, firstPage);
+                records.forEachRecord(record -> {
+                    try {
+                        byte[] bytes = new byte[record.remaining()];
+                        record.get(bytes);
+                        out.writeInt(bytes.length);
+                        out.write(bytes);
+                    } catch (IOException e) {
+                        throw new SnapshotWriteException(e);
+                    }
+                });
+                out.writeInt(END_OF_RECORDS);
+                out.flush();
+                bodyLength = out.size();
+                checksum = crc.getValue();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC).putInt(FORMAT_VERSION).putLong(bodyLength).putLong(checksum)
+                    .flip();
+                channel.write(header, 0);
+                channel.force(true);
+            } catch (SnapshotWriteException e) {
+                throw e.getCause();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 파일을 메모리 매핑해 읽는다
+     *
+     * @throws IOException 형식이 다르거나 체크섬이 맞지 않는 경우 포함
+     */
+    public static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 파일 크기가 올바르지 않습니다: " + size);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int magic = mapped.getInt();
+            int version = mapped.getInt();
+            long bodyLength = mapped.getLong();
+            long checksum = mapped.getLong();
+            if (magic != MAGIC || version != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 파일 형식입니다: " + Integer.toHexString(magic) + "/" + version);
+            }
+            if (bodyLength != size - HEADER_BYTES) {
+                throw new IOException("스냅샷 파일이 잘렸습니다: " + bodyLength + " != " + (size - HEADER_BYTES));
+            }
+            ByteBuffer body = mapped.slice(HEADER_BYTES, (int) bodyLength);
+            CRC32C crc = new CRC32C();
+            crc.update(body.duplicate());
+            if (crc.getValue() != checksum) {
+                throw new IOException("스냅샷 파일 체크섬이 일치하지 않습니다");
+            }
+            String dataVersion = getString(body);
+            long savedAt = body.getLong();
+            JsonSnapshot latest = getJson(body);
+            JsonSnapshot firstPage = getJson(body);
+            return new Contents(dataVersion, savedAt, latest, firstPage, body.slice());
+        }
+    }
+
+    /**
+     * records 구간의 레코드를 차례로 넘긴다 (각 레코드는 자기 길이만큼의 슬라이스)
+     */
+    public static void forEachRecord(ByteBuffer records, Consumer<ByteBuffer> consumer) {
+        ByteBuffer buffer = records.duplicate();
+        int length;
+        while ((length = buffer.getInt()) != END_OF_RECORDS) {
+            consumer.accept(buffer.slice(buffer.position(), length));
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    private static void putJson(DataOutputStream out, JsonSnapshot snapshot) throws IOException {
+        if (snapshot == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(snapshot.body().length);
+        out.write(snapshot.body());
+        out.writeInt(snapshot.size());
+        putString(out, snapshot.etag());
+    }
+
+    private static JsonSnapshot getJson(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] body = new byte[length];
+        buffer.get(body);
+        int size = buffer.getInt();
+        return new JsonSnapshot(size, body, getString(buffer));
+    }
+
+    private static void putString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    // 레코드 콜백 안에서 발생한 IOException을 write 밖으로 전달
+    private static final class SnapshotWriteException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        SnapshotWriteException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.humanaid.store;
+
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.service.NewsSnapshotService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * 발행 뉴스 읽기 모델 스냅샷 파일 저장/복원 (news.snapshot.file을 지정한 경우만)
+ * 주기적으로, 그리고 종료 시 오프힙 저장소의 레코드와 최신 뉴스/첫 페이지 JSON 스냅샷을 파일에 쓰고,
+ * 시작 시(ApplicationStartedEvent) 파일을 메모리 매핑해 DB 적재 없이 복원한다.
+ * 파일의 데이터 버전이 현재 DB의 발행 뉴스 상태와 다르면 오래된 스냅샷으로 보고 기존처럼 DB에서 적재한다.
+ */
+@Component
+public class NewsSnapshotPersister {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsSnapshotPersister.class);
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private OffHeapNewsStore offHeapNewsStore;
+
+    @Autowired
+    private NewsSnapshotService newsSnapshotService;
+
+    @Value("${news.snapshot.file:}")
+    private String file;
+
+    // 마지막으로 저장(복원)한 데이터 버전과 저장소 세대 (둘 다 같으면 다시 쓰지 않음)
+    private String savedVersion;
+    private long savedGeneration = -1;
+
+    public boolean isEnabled() {
+        return StringUtils.hasText(file);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        if (isEnabled()) {
+            restore();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${news.snapshot.save-interval-ms:300000}",
+               initialDelayString = "${news.snapshot.save-interval-ms:300000}")
+    public void saveScheduled() {
+        if (isEnabled()) {
+            save();
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        if (isEnabled()) {
+            save();
+        }
+    }
+
+    /**
+     * 스냅샷 파일 복원
+     *
+     * @return 복원 여부 (파일이 없거나 손상되었거나 오래된 경우 false)
+     */
+    public synchronized boolean restore() {
+        Path path = Path.of(file);
+        if (!Files.exists(path)) {
+            log.info("뉴스 스냅샷 파일이 없어 DB에서 적재합니다: {}", path);
+            return false;
+        }
+        try {
+            long readGeneration = offHeapNewsStore.generation();
+            NewsSnapshotFile.Contents contents = NewsSnapshotFile.read(path);
+            String currentVersion = newsRepository.findPublishedVersion().asString();
+            if (!currentVersion.equals(contents.dataVersion())) {
+                log.info("뉴스 스냅샷 파일이 현재 데이터와 달라 사용하지 않습니다: 파일 {}, 현재 {}",
+                    contents.dataVersion(), currentVersion);
+                return false;
+            }
+            offHeapNewsStore.restore(contents.records(), readGeneration);
+            newsSnapshotService.restore(
+                toSnapshot(contents.latest(), newsSnapshotService.getLatestLimit()),
+                toSnapshot(contents.firstPage(), newsSnapshotService.getPageSize()));
+            savedVersion = currentVersion;
+            savedGeneration = readGeneration;
+            log.info("뉴스 스냅샷 파일 복원 완료: {}건 (저장 시각 {})",
+                offHeapNewsStore.size(), Instant.ofEpochMilli(contents.savedAt()));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("뉴스 스냅샷 파일 복원 실패, DB에서 적재합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 스냅샷 파일 저장 (마지막 저장 이후 변경이 없으면 건너뜀)
+     *
+     * @return 파일을 새로 썼는지 여부
+     */
+    public synchronized boolean save() {
+        Path path = Path.of(file);
+        try {
+            // 데이터 버전을 내용보다 먼저 읽는다: 그 뒤의 변경은 버전 불일치로 다음 시작 때 걸러진다
+            long generation = offHeapNewsStore.generation();
+            String version = newsRepository.findPublishedVersion().asString();
+            if (version.equals(savedVersion) && generation == savedGeneration) {
+                return false;
+            }
+            NewsSnapshotFile.JsonSnapshot latest = toJson(
+                newsSnapshotService.getLatestSnapshot(newsSnapshotService.getLatestLimit()),
+                newsSnapshotService.getLatestLimit());
+            NewsSnapshotFile.JsonSnapshot firstPage = toJson(
+                newsSnapshotService.getFirstPageSnapshot(0, newsSnapshotService.getPageSize()),
+                newsSnapshotService.getPageSize());
+            NewsSnapshotFile.write(path, version, System.currentTimeMillis(), latest, firstPage,
+                offHeapNewsStore::forEachRecord);
+
+            // 버전을 읽기 직전에 커밋된 변경이 아직 저장소에 반영되지 않았을 수 있으므로 세대를 다시 확인한다
+            if (offHeapNewsStore.generation() != generation) {
+                Files.deleteIfExists(path);
+                savedVersion = null;
+                return false;
+            }
+            savedVersion = version;
+            savedGeneration = generation;
+            log.debug("뉴스 스냅샷 파일 저장: {} ({}바이트)", path, Files.size(path));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("뉴스 스냅샷 파일 저장 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static NewsSnapshotFile.JsonSnapshot toJson(NewsSnapshotService.Snapshot snapshot, int size) {
+        return snapshot != null ? new NewsSnapshotFile.JsonSnapshot(size, snapshot.getBody(), snapshot.getEtag()) : null;
+    }
+
+    // 설정된 크기가 파일을 쓸 때와 다르면 복원하지 않는다
+    private static NewsSnapshotService.Snapshot toSnapshot(NewsSnapshotFile.JsonSnapshot json, int size) {
+        if (json == null || json.size() != size) {
+            return null;
+        }
+        return new NewsSnapshotService.Snapshot(json.body(), json.etag(), 0);
+    }
+}
@@ -0,0 +1,358 @@
+package com.humanaid.store;
+
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.service.NewsChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 발행된 뉴스 오프힙 저장소 (news.offheap.enabled=true 일 때만 사용)
+ * 본문까지 인코딩한 뉴스를 다이렉트 ByteBuffer 하나에 이어 쓰고, 힙에는 ID -> (위치, 길이) 색인만 둔다.
+ * 보관하는 기사가 늘어도 GC 대상인 힙 사용량은 거의 늘지 않는다.
+ * 수정/삭제로 생긴 빈 공간은 공간이 부족할 때 살아 있는 레코드를 앞으로 당겨 회수한다.
+ */
+@Component
+public class OffHeapNewsStore implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapNewsStore.class);
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Value("${news.offheap.enabled:false}")
+    private boolean enabled;
+
+    @Value("${news.offheap.capacity-mb:64}")
+    private int capacityMb;
+
+    // ID -> (위치 << 32 | 길이)
+    private final Map<Long, Long> index = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 뉴스가 변경될 때마다 증가하는 세대 번호 (변경 전에 읽은 내용이 변경 후에 저장되지 않도록 사용)
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // 위치를 바꾸는 상대 읽기/쓰기는 쓰지 않고 절대 위치로만 접근한다 (여러 스레드가 동시에 읽음)
+    private ByteBuffer arena;
+    private int writePosition;
+    private long liveBytes;
+
+    // 스냅샷 파일에서 복원했으면 시작 시 DB 적재를 건너뛴다
+    private volatile boolean restored;
+
+    @PostConstruct
+    void allocate() {
+        if (!enabled) {
+            return;
+        }
+        if (capacityMb <= 0 || capacityMb > Integer.MAX_VALUE >> 20) {
+            throw new IllegalArgumentException("news.offheap.capacity-mb는 1 ~ 2047 사이여야 합니다: " + capacityMb);
+        }
+        arena = ByteBuffer.allocateDirect(capacityMb << 20);
+    }
+
+    /**
+     * 발행된 뉴스 전체 적재 (용량을 넘는 기사는 저장하지 않고 DB에서 읽는다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled || restored) {
+            return;
+        }
+        try {
+            int page = 0;
+            Page<NewsRecord> batch;
+            do {
+                long batchGeneration = generation.get();
+                batch = newsRepository.findPublishedRecords(PageRequest.of(page++, LOAD_BATCH_SIZE));
+                batch.forEach(record -> put(record, batchGeneration));
+            } while (batch.hasNext());
+            log.info("뉴스 오프힙 저장소 적재 완료: {}건, {}바이트", size(), getLiveBytes());
+        } catch (Exception e) {
+            // 적재에 실패해도 조회는 DB로 처리된다
+            log.warn("뉴스 오프힙 저장소 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장소를 비우고 DB에서 다시 적재 (다른 인스턴스의 변경을 반영할 때)
+     * 적재가 끝나기 전까지 저장소에 없는 기사는 DB에서 읽는다.
+     */
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            clearInternal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        restored = false;
+        load();
+    }
+
+    /**
+     * 뉴스 변경이 커밋되면 해당 뉴스만 다시 저장 (발행 상태가 아니면 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (!enabled || event.getNewsId() == null) {
+            return;
+        }
+        long changedGeneration = generation.incrementAndGet();
+        remove(event.getNewsId());
+        if (event.getCurrent() != null && event.getCurrent().published()) {
+            newsRepository.findRecordById(event.getNewsId())
+                .filter(NewsRecord::published)
+                .ifPresent(record -> put(record, changedGeneration));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 세대 번호 (DB에서 읽기 전에 얻어 두고 put에 전달)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 저장된 발행 뉴스 조회
+     */
+    public Optional<NewsRecord> get(Long id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            Long location = index.get(id);
+            if (location == null) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(NewsRecordCodec.decode(arena.slice(offsetOf(location), lengthOf(location))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 발행 뉴스 저장 (기존 레코드는 교체)
+     * readGeneration 이후 뉴스 변경이 있었으면 읽은 내용이 오래되었을 수 있으므로 저장하지 않는다.
+     *
+     * @return 저장 여부 (세대가 바뀌었거나 공간이 부족하면 false)
+     */
+    public boolean put(NewsRecord record, long readGeneration) {
+        if (!enabled || !record.published()) {
+            return false;
+        }
+        byte[] bytes = NewsRecordCodec.encode(record);
+        lock.writeLock().lock();
+        try {
+            if (readGeneration != generation.get()) {
+                return false;
+            }
+            removeInternal(record.id());
+            if (bytes.length > arena.capacity() - writePosition) {
+                if (bytes.length > arena.capacity() - liveBytes) {
+                    return false;
+                }
+                compact();
+            }
+            arena.put(writePosition, bytes);
+            index.put(record.id(), ((long) writePosition << 32) | bytes.length);
+            writePosition += bytes.length;
+            liveBytes += bytes.length;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 파일의 레코드 구간으로 저장소 내용을 교체 (NewsSnapshotFile 형식, 바이트 그대로 복사)
+     *
+     * @return 복원 여부 (레코드가 없거나 readGeneration 이후 변경이 있었거나 용량이 부족하면 false)
+     */
+    public boolean restore(ByteBuffer records, long readGeneration) {
+        if (!enabled) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            clearInternal();
+            if (readGeneration != generation.get()) {
+                return false;
+            }
+            boolean[] fits = {true};
+            NewsSnapshotFile.forEachRecord(records, record -> {
+                int length = record.remaining();
+                if (!fits[0] || length > arena.capacity() - writePosition) {
+                    fits[0] = false;
+                    return;
+                }
+                long id = NewsRecordCodec.idOf(record);
+                removeInternal(id);
+                arena.put(writePosition, record, record.position(), length);
+                index.put(id, ((long) writePosition << 32) | length);
+                writePosition += length;
+                liveBytes += length;
+            });
+            if (!fits[0]) {
+                clearInternal();
+                return false;
+            }
+            // 복원할 레코드가 없으면 (저장소를 끄고 저장한 파일 등) 시작 시 DB에서 적재한다
+            restored = !index.isEmpty();
+            return restored;
+        } catch (RuntimeException e) {
+            clearInternal();
+            throw e;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 레코드를 인코딩된 바이트 그대로 차례로 넘긴다 (스냅샷 파일 저장용)
+     * 넘기는 동안에는 읽기 잠금을 잡고 있으므로 변경 반영이 잠시 대기한다.
+     */
+    public void forEachRecord(Consumer<ByteBuffer> consumer) {
+        if (!enabled) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            for (Long location : index.values()) {
+                consumer.accept(arena.slice(offsetOf(location), lengthOf(location)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLiveBytes() {
+        lock.readLock().lock();
+        try {
+            return liveBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("humanaid.news.offheap.entries", this, OffHeapNewsStore::size)
+            .description("오프힙 저장소에 보관한 발행 뉴스 수")
+            .register(registry);
+        Gauge.builder("humanaid.news.offheap.bytes", this, OffHeapNewsStore::getLiveBytes)
+            .description("오프힙 저장소에서 사용 중인 바이트 수")
+            .baseUnit("bytes")
+            .register(registry);
+        FunctionCounter.builder("humanaid.news.offheap.requests", hits, AtomicLong::get)
+            .description("오프힙 저장소 조회 수")
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("humanaid.news.offheap.requests", misses, AtomicLong::get)
+            .description("오프힙 저장소 조회 수")
+            .tag("result", "miss")
+            .register(registry);
+    }
+
+    private void removeInternal(Long id) {
+        Long location = index.remove(id);
+        if (location != null) {
+            liveBytes -= lengthOf(location);
+        }
+    }
+
+    private void clearInternal() {
+        index.clear();
+        writePosition = 0;
+        liveBytes = 0;
+    }
+
+    // 살아 있는 레코드를 위치 순서대로 앞으로 당긴다 (새 위치는 항상 기존 위치 이하)
+    private void compact() {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(index.entrySet());
+        entries.sort(Comparator.comparingLong(Map.Entry::getValue));
+        int position = 0;
+        for (Map.Entry<Long, Long> entry : entries) {
+            int offset = offsetOf(entry.getValue());
+            int length = lengthOf(entry.getValue());
+            if (offset != position) {
+                byte[] bytes = new byte[length];
+                arena.get(offset, bytes);
+                arena.put(position, bytes);
+                entry.setValue(((long) position << 32) | length);
+            }
+            position += length;
+        }
+        writePosition = position;
+    }
+
+    private static int offsetOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int lengthOf(long location) {
+        return (int) location;
+    }
+}
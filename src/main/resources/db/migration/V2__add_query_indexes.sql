@@ -0,0 +1,20 @@
+-- NewsRepository / ContactRepository 조회 조건과 정렬 순서에 맞춘 복합 인덱스
+-- 엔티티의 @Table(indexes = ...) 선언과 이름/컬럼을 맞춘다.
+
+-- 관리자 목록 (created_at DESC, id DESC 키셋 페이지네이션)
+CREATE INDEX idx_news_created_at_id ON news (created_at, id);
+-- 발행 뉴스 목록 / 최신 뉴스 / 기간 조회 / 월별 통계
+CREATE INDEX idx_news_published_published_at ON news (published, published_at);
+-- 카테고리별 발행 뉴스 / 카테고리별 통계
+CREATE INDEX idx_news_published_category_published_at ON news (published, category, published_at);
+
+-- 전체 목록 (키셋 페이지네이션) / 기간 조회 / 월별 통계
+CREATE INDEX idx_contacts_created_at_id ON contacts (created_at, id);
+-- 미처리 문의 / 처리 상태별 페이징
+CREATE INDEX idx_contacts_processed_created_at ON contacts (processed, created_at);
+-- 처리된 문의 (processed_at DESC)
+CREATE INDEX idx_contacts_processed_processed_at ON contacts (processed, processed_at);
+-- 문의 유형별 조회 / 유형별 통계
+CREATE INDEX idx_contacts_inquiry_type_created_at ON contacts (inquiry_type, created_at);
+-- 이메일별 조회
+CREATE INDEX idx_contacts_email_created_at ON contacts (email, created_at);
@@ -0,0 +1,118 @@
+package com.humanaid.benchmark;
+
+import com.humanaid.HumanaidApplication;
+import com.humanaid.entity.Contact;
+import com.humanaid.repository.ContactRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커넥션 풀 점유 비교 벤치마크 (open-in-view 켜짐 vs 꺼짐)
+ * 작은 풀(기본 4개)에 동시 요청을 몰아 커넥션이 병목이 되게 하고, 처리량/지연과 함께
+ * 커넥션 획득 대기 시간(hikaricp.connections.acquire)과 커넥션 점유 시간(hikaricp.connections.usage)을 비교한다.
+ * open-in-view가 켜져 있으면 JSON 직렬화가 끝날 때까지 커넥션을 반납하지 않아 점유 시간과 대기 시간이 늘어난다.
+ *
+ * 실행: mvn test -Pbenchmark -Dtest=ConnectionPoolBenchmarkTest [-Dbenchmark.pool-size=4 -Dbenchmark.concurrency=200]
+ * 결과: target/benchmark-results/connection-pool.csv
+ */
+@Tag("benchmark")
+class ConnectionPoolBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolBenchmarkTest.class);
+
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 4);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 200);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration-seconds", 15);
+    private static final int SEED_CONTACTS = Integer.getInteger("benchmark.seed", 1000);
+
+    @Test
+    void compareOpenInViewOnAndOff() throws Exception {
+        List<String> rows = new ArrayList<>();
+        log.info("{} {} {}", HttpLoad.Result.HEADER, String.format("%12s", "acquire(ms)"), String.format("%12s", "usage(ms)"));
+        for (boolean openInView : new boolean[] { true, false }) {
+            String mode = openInView ? "osiv-on" : "osiv-off";
+            try (ConfigurableApplicationContext context = start(mode, openInView)) {
+                seed(context.getBean(ContactRepository.class));
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+                HttpLoad.Result result = HttpLoad.run(mode, CONCURRENCY, WARMUP_SECONDS, DURATION_SECONDS,
+                    (client, n) -> nextRequest(baseUrl, client, n));
+
+                MeterRegistry registry = context.getBean(MeterRegistry.class);
+                double acquire = meanMillis(registry, "hikaricp.connections.acquire");
+                double usage = meanMillis(registry, "hikaricp.connections.usage");
+                log.info("{} {} {}", result, String.format("%12.3f", acquire), String.format("%12.3f", usage));
+                rows.add(String.format("%s,%d,%.3f,%.3f", result.toCsv(), POOL_SIZE, acquire, usage));
+                assertTrue(result.requests() > 0);
+            }
+        }
+        writeCsv(rows);
+    }
+
+    private ConfigurableApplicationContext start(String mode, boolean openInView) {
+        return new SpringApplicationBuilder(HumanaidApplication.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=true",
+                "spring.jpa.open-in-view=" + openInView,
+                "spring.datasource.url=jdbc:h2:mem:pool-" + mode,
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                "spring.datasource.hikari.connection-timeout=30000",
+                "logging.level.com.humanaid=WARN")
+            .run();
+    }
+
+    private void seed(ContactRepository contactRepository) {
+        List<Contact> contacts = new ArrayList<>(SEED_CONTACTS);
+        for (int i = 0; i < SEED_CONTACTS; i++) {
+            contacts.add(new Contact("벤치마크 사용자" + i, "pool" + i + "@humanaid.digital", "벤치마크 회사",
+                "010-0000-0000", i % 2 == 0 ? "general" : "partnership", "커넥션 풀 측정 문의 " + i,
+                "커넥션 점유 시간 비교를 위한 문의 본문입니다. " + i, true, false));
+        }
+        contactRepository.saveAll(contacts);
+    }
+
+    /**
+     * 요청 혼합: 문의 목록 조회(50건) 70%, 문의 상세 조회 30% (모두 DB 조회 후 JSON 직렬화)
+     */
+    private HttpRequest nextRequest(String baseUrl, int client, int n) {
+        if ((client + n) % 10 < 7) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/contacts?page=" + (n % 20) + "&size=50")).GET().build();
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/contacts/" + (1 + (client * 31 + n) % SEED_CONTACTS)))
+            .GET().build();
+    }
+
+    private static double meanMillis(MeterRegistry registry, String name) {
+        Timer timer = registry.find(name).timer();
+        return timer == null ? 0 : timer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    private void writeCsv(List<String> rows) throws IOException {
+        Path dir = Path.of("target", "benchmark-results");
+        Files.createDirectories(dir);
+        StringBuilder csv = new StringBuilder(HttpLoad.Result.CSV_HEADER)
+            .append(",poolSize,acquireMeanMillis,usageMeanMillis\n");
+        rows.forEach(row -> csv.append(row).append('\n'));
+        Files.writeString(dir.resolve("connection-pool.csv"), csv.toString());
+    }
+}
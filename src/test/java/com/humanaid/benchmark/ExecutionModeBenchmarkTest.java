@@ -0,0 +1,97 @@
+package com.humanaid.benchmark;
+
+import com.humanaid.HumanaidApplication;
+import com.humanaid.entity.Contact;
+import com.humanaid.repository.ContactRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실행 모드 비교 벤치마크 (플랫폼 스레드 풀 vs 가상 스레드)
+ * 같은 애플리케이션을 두 모드로 띄워 조회/검색/등록 혼합 부하를 주고 처리량과 p50/p99 지연을 비교한다.
+ *
+ * 실행: mvn test -Pbenchmark [-Dbenchmark.concurrency=400 -Dbenchmark.duration-seconds=20 -Dbenchmark.seed=2000]
+ * 결과: target/benchmark-results/execution-mode.csv
+ */
+@Tag("benchmark")
+class ExecutionModeBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeBenchmarkTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration-seconds", 15);
+    private static final int SEED_CONTACTS = Integer.getInteger("benchmark.seed", 1000);
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        HttpLoad.Result platform = run("platform", false);
+        HttpLoad.Result virtual = run("virtual", true);
+
+        log.info("{}", HttpLoad.Result.HEADER);
+        log.info("{}", platform);
+        log.info("{}", virtual);
+        HttpLoad.writeCsv("execution-mode.csv", List.of(platform, virtual));
+
+        assertTrue(platform.requests() > 0 && virtual.requests() > 0);
+    }
+
+    private HttpLoad.Result run(String mode, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HumanaidApplication.class)
+                .profiles("test")
+                .properties(
+                    "server.port=0",
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    "spring.datasource.url=jdbc:h2:mem:bench-" + mode,
+                    "logging.level.com.humanaid=WARN")
+                .run()) {
+            seed(context.getBean(ContactRepository.class));
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+            return HttpLoad.run(mode, CONCURRENCY, WARMUP_SECONDS, DURATION_SECONDS,
+                (client, n) -> nextRequest(baseUrl, client, n));
+        }
+    }
+
+    private void seed(ContactRepository contactRepository) {
+        List<Contact> contacts = new ArrayList<>(SEED_CONTACTS);
+        for (int i = 0; i < SEED_CONTACTS; i++) {
+            contacts.add(new Contact("벤치마크 사용자" + i, "bench" + i + "@humanaid.digital", "벤치마크 회사",
+                "010-0000-0000", i % 2 == 0 ? "general" : "partnership", "성능 측정 문의 " + i,
+                "가상 스레드 실행 모드 비교를 위한 문의 본문입니다. " + i, true, false));
+        }
+        contactRepository.saveAll(contacts);
+    }
+
+    /**
+     * 요청 혼합: 문의 목록 조회 50%, 문의 검색 30%, 문의 등록 20%
+     */
+    private HttpRequest nextRequest(String baseUrl, int client, int n) {
+        int slot = (client + n) % 10;
+        if (slot < 5) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/contacts?page=" + (n % 10) + "&size=20")).GET().build();
+        }
+        if (slot < 8) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/contacts/search?keyword=bench" + (n % 100) + "&size=20"))
+                .GET().build();
+        }
+        String body = "{\"name\":\"부하 사용자\",\"email\":\"load" + client + "@humanaid.digital\","
+            + "\"inquiryType\":\"general\",\"subject\":\"부하 테스트\",\"message\":\"부하 테스트 문의입니다. " + n + "\","
+            + "\"privacyAgree\":true,\"marketingAgree\":false}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/contacts"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+            .build();
+    }
+}
@@ -2,7 +2,10 @@ package com.humanaid.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.humanaid.dto.ContactRequest;
+import com.humanaid.dto.ContactSummary;
 import com.humanaid.entity.Contact;
+import com.humanaid.exception.DuplicateSubmissionException;
+import com.humanaid.service.ContactExportService;
 import com.humanaid.service.ContactService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +38,9 @@ class ContactControllerTest {
     @MockBean
     private ContactService contactService;
 
+    @MockBean
+    private ContactExportService contactExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -72,7 +79,7 @@ class ContactControllerTest {
     @Test
     void createContact_Success() throws Exception {
         // Given
-        when(contactService.saveContact(any(ContactRequest.class))).thenReturn(contact);
+        when(contactService.saveContact(any(ContactRequest.class), any())).thenReturn(contact);
 
         // When & Then
         mockMvc.perform(post("/contacts")
@@ -85,6 +92,35 @@ class ContactControllerTest {
                 .andExpect(jsonPath("$.data.email").value("test@humanaid.digital"));
     }
 
+    @Test
+    void createContact_InFlightDuplicate_Conflict() throws Exception {
+        // Given
+        when(contactService.saveContact(any(ContactRequest.class), eq("retry-key-1")))
+            .thenThrow(new DuplicateSubmissionException("같은 문의사항 처리하고 있습니다. 잠시 후 다시 확인해 주세요."));
+
+        // When & Then
+        mockMvc.perform(post("/contacts")
+                .header("Idempotency-Key", "retry-key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contactRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void createContact_UnexpectedIllegalState_ServerError() throws Exception {
+        // Given - 중복 요청이 아닌 내부 오류 (예: 해시 알고리즘을 찾지 못함)
+        when(contactService.saveContact(any(ContactRequest.class), any()))
+            .thenThrow(new IllegalStateException("SHA-256 not available"));
+
+        // When & Then
+        mockMvc.perform(post("/contacts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contactRequest)))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     void createContact_ValidationError() throws Exception {
         // Given - 잘못된 요청 (이름이 비어있음)
@@ -101,7 +137,9 @@ class ContactControllerTest {
     @Test
     void getUnprocessedContacts_Success() throws Exception {
         // Given
-        List<Contact> contacts = Arrays.asList(contact);
+        List<ContactSummary> contacts = Arrays.asList(new ContactSummary(
+            contact.getId(), contact.getName(), contact.getEmail(), contact.getCompany(), contact.getInquiryType(),
+            contact.getSubject(), contact.getProcessed(), contact.getCreatedAt(), null));
         when(contactService.getUnprocessedContacts()).thenReturn(contacts);
 
         // When & Then
@@ -109,7 +147,8 @@ class ContactControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].name").value("테스트 사용자"));
+                .andExpect(jsonPath("$.data[0].name").value("테스트 사용자"))
+                .andExpect(jsonPath("$.data[0].message").doesNotExist());
     }
 
     @Test
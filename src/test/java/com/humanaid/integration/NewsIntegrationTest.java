@@ -0,0 +1,229 @@
+package com.humanaid.integration;
+
+import com.humanaid.config.JpaCacheConfig;
+import com.humanaid.dto.NewsImportResult;
+import com.humanaid.dto.NewsSummary;
+import com.humanaid.entity.News;
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.service.NewsChangedEvent;
+import com.humanaid.service.NewsImportService;
+import com.humanaid.service.NewsService;
+import com.humanaid.service.NewsSnapshotService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class NewsIntegrationTest {
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private NewsImportService newsImportService;
+
+    @Autowired
+    private NewsSnapshotService newsSnapshotService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void content_LoadedLazilyAndIncludedInDetail() {
+        // Given
+        News news = new News("지연 로딩 뉴스", "지연 로딩 요약", "지연 로딩 본문", "AI 뉴스", "Human.Ai.D");
+        news.setPublished(true);
+        Long id = newsRepository.save(news).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When - 일반 엔티티 조회는 본문을 읽지 않음
+        News loaded = newsRepository.findById(id).orElseThrow();
+
+        // Then
+        assertFalse(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(loaded, "content"));
+        entityManager.clear();
+
+        // When - 상세 조회는 본문을 함께 반환
+        News detail = newsService.getNewsById(id).orElseThrow();
+
+        // Then
+        assertTrue(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(detail, "content"));
+        assertEquals("지연 로딩 본문", detail.getContent());
+    }
+
+    @Test
+    void publishedQueryCache_InvalidatedByTogglePublish() {
+        // Given - 초기 데이터의 '투자' 카테고리 뉴스 (ID 2)
+        CacheRegionStatistics region = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics().getCacheRegionStatistics(JpaCacheConfig.PUBLISHED_NEWS_QUERY_REGION);
+        newsRepository.findPublishedSummariesByCategory("투자");
+        long hits = region.getHitCount();
+
+        // When - 같은 조회는 쿼리 결과 캐시에서 응답
+        List<NewsSummary> cached = newsRepository.findPublishedSummariesByCategory("투자");
+
+        // Then
+        assertEquals(hits + 1, region.getHitCount());
+        assertEquals(1, cached.size());
+
+        // When - 발행 취소 후에는 캐시된 결과를 쓰지 않음
+        newsService.togglePublishStatus(2L);
+        entityManager.flush();
+        List<NewsSummary> afterToggle = newsRepository.findPublishedSummariesByCategory("투자");
+
+        // Then
+        assertTrue(afterToggle.isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void detail_WithoutOpenInView_SerializesContent() throws Exception {
+        // Given - open-in-view가 꺼져 있어 응답 직렬화 시점에는 영속성 컨텍스트가 없음 (초기 데이터 ID 1)
+
+        // When & Then
+        mockMvc.perform(get("/news/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(1))
+                .andExpect(jsonPath("$.data.content").isNotEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void latestSnapshot_OmitsTimestampSoRebuildKeepsEtag() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/news/latest"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.timestamp").doesNotExist())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When - 스냅샷을 폐기하고 다시 만듦 (데이터는 그대로)
+        newsSnapshotService.onNewsChanged(new NewsChangedEvent(null, null, new NewsChangedEvent.State(true, null, null)));
+        Thread.sleep(5);
+
+        // Then - 만든 시각과 무관하게 같은 본문/ETag
+        mockMvc.perform(get("/news/latest"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void streamByCategory_WritesJsonArrayFromCursor() throws Exception {
+        // Given - 초기 데이터의 '의료 AI' 카테고리 뉴스 (ID 1)
+
+        // When
+        MvcResult json = mockMvc.perform(get("/news/category/의료 AI").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult ndjson = mockMvc.perform(get("/news/published").param("stream", "true").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(json))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", notNullValue()))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].content").doesNotExist());
+        String body = mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(body.lines().count() >= 4);
+        assertTrue(body.lines().allMatch(line -> line.startsWith("{\"id\":")));
+    }
+
+    @Test
+    void importFeed_SkipsDuplicateAndInvalidItems() throws Exception {
+        // Given - news-cache 형식 피드 (중복 URL 1건, 필수 값 누락 1건)
+        String feed = """
+            {"lastUpdated": "2026-10-01T09:00:00Z", "news": [
+              {"title": "가져오기 뉴스 1", "summary": "요약 1", "category": "AI 뉴스",
+               "source": "피드", "url": "https://example.com/import-1",
+               "publishedAt": "2026-10-01T09:00:00+09:00"},
+              {"title": "가져오기 뉴스 2", "summary": "요약 2", "category": "AI 뉴스",
+               "source": "피드", "url": "https://example.com/import-2", "tags": ["AI"]},
+              {"title": "가져오기 뉴스 1", "summary": "요약 1", "category": "AI 뉴스",
+               "url": "https://example.com/import-1"},
+              {"title": "요약 없는 뉴스", "category": "AI 뉴스", "url": "https://example.com/import-3"}
+            ]}
+            """;
+
+        // When
+        NewsImportResult first = newsImportService.importFeed(streamOf(feed), false, true);
+        NewsImportResult second = newsImportService.importFeed(streamOf(feed), false, true);
+
+        // Then
+        assertEquals(4, first.getRead());
+        assertEquals(2, first.getImported());
+        assertEquals(1, first.getDuplicates());
+        assertEquals(1, first.getInvalid());
+        assertEquals(0, second.getImported());
+        assertEquals(3, second.getDuplicates());
+        assertEquals(List.of("https://example.com/import-1"),
+            newsRepository.findExistingExternalUrls(List.of("https://example.com/import-1", "https://example.com/none")));
+    }
+
+    @Test
+    void importFeed_Ndjson_AssignsSequenceIds() throws Exception {
+        // Given
+        String feed = """
+            {"title": "NDJSON 뉴스 1", "summary": "요약", "category": "연구개발", "url": "https://example.com/nd-1"}
+            {"title": "NDJSON 뉴스 2", "summary": "요약", "category": "연구개발", "url": "https://example.com/nd-2"}
+            """;
+
+        // When
+        NewsImportResult result = newsImportService.importFeed(streamOf(feed), true, false);
+
+        // Then - 시퀀스 ID는 기존 데이터 ID 이후부터 할당
+        assertEquals(2, result.getImported());
+        List<News> imported = newsRepository.findAll().stream()
+            .filter(n -> n.getTitle().startsWith("NDJSON 뉴스"))
+            .toList();
+        assertEquals(2, imported.size());
+        assertTrue(imported.stream().allMatch(n -> n.getId() > 4 && !n.getPublished()));
+    }
+
+    @Test
+    void importFeed_MalformedJson_ThrowsIllegalArgument() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> newsImportService.importFeed(streamOf("{\"news\": [{\"title\": "), false, true));
+    }
+
+    private static InputStream streamOf(String feed) {
+        return new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,16 +1,31 @@
 package com.humanaid.service;
 
+import com.humanaid.dto.ContactBulkRequest;
 import com.humanaid.dto.ContactRequest;
+import com.humanaid.dto.ContactSummary;
 import com.humanaid.entity.Contact;
+import com.humanaid.exception.DuplicateSubmissionException;
 import com.humanaid.repository.ContactRepository;
+import com.humanaid.search.ContactSearchIndex;
+import com.humanaid.search.SearchHits;
+import com.humanaid.stats.ContactStatsRollup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.SimpleMailMessage;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -19,6 +34,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +49,24 @@ class ContactServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private ObjectProvider<EmailService> emailServiceProvider;
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private ContactSearchIndex contactSearchIndex;
+
+    @Mock
+    private ContactStatsRollup contactStatsRollup;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ContactDuplicateDetector contactDuplicateDetector = new ContactDuplicateDetector(Duration.ofMinutes(10), 1000);
+
     @InjectMocks
     private ContactService contactService;
 
@@ -39,6 +75,8 @@ class ContactServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(emailServiceProvider.getObject()).thenReturn(emailService);
+
         contactRequest = new ContactRequest(
             "테스트 사용자",
             "test@humanaid.digital",
@@ -70,7 +108,8 @@ class ContactServiceTest {
     void saveContact_Success() {
         // Given
         when(contactRepository.save(any(Contact.class))).thenReturn(contact);
-        doNothing().when(emailService).sendContactNotification(any(Contact.class));
+        SimpleMailMessage notification = new SimpleMailMessage();
+        when(emailService.buildContactNotification(contact)).thenReturn(notification);
 
         // When
         Contact savedContact = contactService.saveContact(contactRequest);
@@ -80,26 +119,88 @@ class ContactServiceTest {
         assertEquals("테스트 사용자", savedContact.getName());
         assertEquals("test@humanaid.digital", savedContact.getEmail());
         assertEquals("general", savedContact.getInquiryType());
+        assertFalse(savedContact.isReplayed());
         
         verify(contactRepository, times(1)).save(any(Contact.class));
-        verify(emailService, times(1)).sendContactNotification(any(Contact.class));
+        verify(mailOutboxService, times(1)).enqueue(notification);
+        verify(emailService, never()).sendContactNotification(any(Contact.class));
+    }
+
+    @Test
+    void saveContact_DuplicateSubmission_ReturnsFirstContactWithoutSaving() {
+        // Given
+        when(contactRepository.save(any(Contact.class))).thenReturn(contact);
+        contactService.saveContact(contactRequest);
+
+        // When - 같은 이메일/제목/메시지 재전송 (대소문자, 앞뒤 공백 차이는 무시)
+        contactRequest.setEmail(" TEST@humanaid.digital ");
+        Contact duplicate = contactService.saveContact(contactRequest);
+
+        // Then
+        assertEquals(1L, duplicate.getId());
+        assertEquals(contact.getCreatedAt(), duplicate.getCreatedAt());
+        assertTrue(duplicate.isReplayed());
+        verify(contactRepository, times(1)).save(any(Contact.class));
+        verify(mailOutboxService, times(1)).enqueue(any());
+    }
+
+    @Test
+    void saveContact_FirstSubmissionStillSaving_ThrowsDuplicateSubmission() {
+        // Given - 같은 내용의 먼저 온 요청이 아직 저장 중
+        contactDuplicateDetector.claim(contactDuplicateDetector.fingerprints(contactRequest, null));
+
+        // When & Then
+        assertThrows(DuplicateSubmissionException.class, () -> contactService.saveContact(contactRequest));
+        verify(contactRepository, never()).save(any(Contact.class));
+    }
+
+    @Test
+    void saveContact_SameIdempotencyKey_ReturnsFirstContact() {
+        // Given
+        when(contactRepository.save(any(Contact.class))).thenReturn(contact);
+        contactService.saveContact(contactRequest, "retry-key-1");
+
+        // When - 메시지를 고쳐 보냈어도 같은 키면 재시도로 본다
+        contactRequest.setMessage("수정한 메시지입니다.");
+        Contact retried = contactService.saveContact(contactRequest, "retry-key-1");
+
+        // Then
+        assertEquals(1L, retried.getId());
+        assertTrue(retried.isReplayed());
+        verify(contactRepository, times(1)).save(any(Contact.class));
+    }
+
+    @Test
+    void saveContact_FailedSave_ReleasesFingerprint() {
+        // Given
+        when(contactRepository.save(any(Contact.class)))
+            .thenThrow(new RuntimeException("DB 오류"))
+            .thenReturn(contact);
+
+        // When
+        assertThrows(RuntimeException.class, () -> contactService.saveContact(contactRequest));
+        Contact saved = contactService.saveContact(contactRequest);
+
+        // Then - 실패한 등록은 중복으로 취급하지 않음
+        assertEquals(1L, saved.getId());
+        verify(contactRepository, times(2)).save(any(Contact.class));
     }
 
     @Test
     void getUnprocessedContacts_Success() {
         // Given
-        List<Contact> contacts = Arrays.asList(contact);
-        when(contactRepository.findByProcessedFalseOrderByCreatedAtDesc()).thenReturn(contacts);
+        List<ContactSummary> contacts = Arrays.asList(summaryOf(contact));
+        when(contactRepository.findUnprocessedSummaries()).thenReturn(contacts);
 
         // When
-        List<Contact> result = contactService.getUnprocessedContacts();
+        List<ContactSummary> result = contactService.getUnprocessedContacts();
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("테스트 사용자", result.get(0).getName());
         
-        verify(contactRepository, times(1)).findByProcessedFalseOrderByCreatedAtDesc();
+        verify(contactRepository, times(1)).findUnprocessedSummaries();
     }
 
     @Test
@@ -168,38 +269,42 @@ class ContactServiceTest {
     @Test
     void searchContacts_Success() {
         // Given
-        List<Contact> contacts = Arrays.asList(contact);
-        when(contactRepository.findByKeyword(anyString())).thenReturn(contacts);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(contactSearchIndex.isReady()).thenReturn(true);
+        when(contactSearchIndex.search("테스트", 0, 10)).thenReturn(new SearchHits(List.of(1L), 1));
+        when(contactRepository.findSummariesByIdIn(List.of(1L))).thenReturn(Arrays.asList(summaryOf(contact)));
 
         // When
-        List<Contact> result = contactService.searchContacts("테스트");
+        Page<ContactSummary> result = contactService.searchContacts("테스트", pageable);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("테스트 사용자", result.get(0).getName());
+        assertEquals(1, result.getTotalElements());
+        assertEquals("테스트 사용자", result.getContent().get(0).getName());
         
-        verify(contactRepository, times(1)).findByKeyword("테스트");
+        verify(contactRepository, never()).findSummariesByKeyword(anyString(), any(Pageable.class));
     }
 
     @Test
     void deleteContact_Success() {
         // Given
-        when(contactRepository.existsById(anyLong())).thenReturn(true);
-        doNothing().when(contactRepository).deleteById(anyLong());
+        when(contactRepository.findById(1L)).thenReturn(Optional.of(contact));
 
         // When
         contactService.deleteContact(1L);
 
         // Then
-        verify(contactRepository, times(1)).existsById(1L);
-        verify(contactRepository, times(1)).deleteById(1L);
+        verify(contactRepository, times(1)).findById(1L);
+        verify(contactRepository, times(1)).delete(contact);
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+            event instanceof ContactChangedEvent changed && changed.getCountDelta() == -1
+                && "general".equals(changed.getInquiryType())));
     }
 
     @Test
     void deleteContact_NotFound() {
         // Given
-        when(contactRepository.existsById(anyLong())).thenReturn(false);
+        when(contactRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -208,7 +313,106 @@ class ContactServiceTest {
         
         assertEquals("문의사항을 찾을 수 없습니다. ID: 999", exception.getMessage());
         
-        verify(contactRepository, times(1)).existsById(999L);
-        verify(contactRepository, never()).deleteById(anyLong());
+        verify(contactRepository, times(1)).findById(999L);
+        verify(contactRepository, never()).delete(any(Contact.class));
+    }
+
+    @Test
+    void markAsProcessedBulk_ByFilterRunsSingleUpdate() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ContactBulkRequest request = new ContactBulkRequest("general", from, null, null);
+        when(contactRepository.markProcessedByFilter(eq("general"), eq(from), isNull(), any(LocalDateTime.class)))
+            .thenReturn(42);
+
+        // When
+        int updated = contactService.markAsProcessed(request);
+
+        // Then
+        assertEquals(42, updated);
+        verify(contactRepository, never()).findById(anyLong());
+        verify(contactRepository, never()).save(any(Contact.class));
+    }
+
+    @Test
+    void markAsProcessedBulk_ProcessedOnlyFilterRejected() {
+        // When & Then - processed만 지정하면 전체 문의가 대상이 되므로 거부
+        assertThrows(IllegalArgumentException.class,
+            () -> contactService.markAsProcessed(new ContactBulkRequest(null, null, null, false)));
+        assertThrows(IllegalArgumentException.class,
+            () -> contactService.markAsProcessed(new ContactBulkRequest("general", null, null, true)));
+        verify(contactRepository, never()).markProcessedByFilter(any(), any(), any(), any());
+    }
+
+    @Test
+    void deleteContactsBulk_ByIdsPublishesEventPerRow() {
+        // Given
+        ContactBulkRequest request = new ContactBulkRequest(List.of(1L, 2L));
+        ContactSummary other = new ContactSummary(2L, "다른 사용자", "other@humanaid.digital", null,
+            "partnership", "다른 문의", false, LocalDateTime.now(), null);
+        when(contactRepository.findSummariesByIdIn(List.of(1L, 2L))).thenReturn(List.of(summaryOf(contact), other));
+        when(contactRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+
+        // When
+        int deleted = contactService.deleteContacts(request);
+
+        // Then
+        assertEquals(2, deleted);
+        verify(eventPublisher, times(2)).publishEvent(argThat((Object event) ->
+            event instanceof ContactChangedEvent changed && changed.getCountDelta() == -1));
+    }
+
+    @Test
+    void deleteContactsBulk_ByFilterRunsSingleDeleteAndPublishesGroupedCounts() {
+        // Given
+        ContactBulkRequest request = new ContactBulkRequest();
+        request.setInquiryType("general");
+        when(contactRepository.countByTypeAndDayForFilter("general", null, null, null)).thenReturn(List.of(
+            new Object[] { "general", 2024, 3, 1, 1500L },
+            new Object[] { "general", 2024, 3, 2, 500L }));
+        when(contactRepository.deleteByFilter("general", null, null, null)).thenReturn(2000);
+
+        // When
+        int deleted = contactService.deleteContacts(request);
+
+        // Then - 건별 조회/삭제/이벤트 없이 DELETE 문 하나와 집계 이벤트 하나
+        assertEquals(2000, deleted);
+        verify(contactRepository, never()).deleteByIds(any());
+        verify(eventPublisher, never()).publishEvent(any(ContactChangedEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+            event instanceof ContactsDeletedEvent deletedEvent
+                && deletedEvent.getCounts().equals(List.of(
+                    new ContactsDeletedEvent.DeletedCount("general", LocalDate.of(2024, 3, 1), 1500L),
+                    new ContactsDeletedEvent.DeletedCount("general", LocalDate.of(2024, 3, 2), 500L)))));
+    }
+
+    @Test
+    void getContactStatsByMonth_BeforeRollupReady_QueriesFromStartOfDay() {
+        // Given
+        when(contactStatsRollup.isReady()).thenReturn(false);
+
+        // When
+        contactService.getContactStatsByMonth(LocalDateTime.of(2024, 3, 1, 15, 30));
+
+        // Then - 증분 집계와 같은 일자 단위 범위
+        verify(contactRepository).countByMonth(LocalDateTime.of(2024, 3, 1, 0, 0));
+    }
+
+    @Test
+    void deleteContactsBulk_RequiresIdsOrFilter() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> contactService.deleteContacts(new ContactBulkRequest()));
+        assertThrows(IllegalArgumentException.class, () -> {
+            ContactBulkRequest request = new ContactBulkRequest(List.of(1L));
+            request.setInquiryType("general");
+            contactService.deleteContacts(request);
+        });
+        verify(contactRepository, never()).deleteByIds(any());
+    }
+
+    private static ContactSummary summaryOf(Contact contact) {
+        return new ContactSummary(contact.getId(), contact.getName(), contact.getEmail(), contact.getCompany(),
+            contact.getInquiryType(), contact.getSubject(), contact.getProcessed(), contact.getCreatedAt(),
+            contact.getProcessedAt());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package com.humanaid.service;
+
+import com.humanaid.dto.NewsSummary;
+import com.humanaid.entity.News;
+import com.humanaid.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NewsServiceCacheTest {
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private NewsRepository newsRepository;
+
+    private News news;
+    private NewsSummary summary;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        news = new News(
+            "캐시 테스트 뉴스",
+            "캐시 테스트 요약입니다.",
+            "캐시 테스트 내용입니다.",
+            "AI 뉴스",
+            "Human.Ai.D"
+        );
+        news.setId(1L);
+        news.setPublished(true);
+        news.setPublishedAt(LocalDateTime.now());
+        news.setCreatedAt(LocalDateTime.now());
+        summary = new NewsSummary(news.getId(), news.getTitle(), news.getSummary(), null, news.getCategory(),
+            news.getSource(), null, news.getPublished(), news.getPublishedAt(), news.getCreatedAt());
+    }
+
+    @Test
+    void getLatestNews_CachedUntilPublishStatusChanges() {
+        // Given
+        List<NewsSummary> newsList = Arrays.asList(summary);
+        when(newsRepository.findLatestSummaries(any(Pageable.class))).thenReturn(newsList);
+        when(newsRepository.findById(anyLong())).thenReturn(Optional.of(news));
+        when(newsRepository.save(any(News.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        newsService.getLatestNews(6);
+        newsService.getLatestNews(6);
+
+        // Then
+        verify(newsRepository, times(1)).findLatestSummaries(any(Pageable.class));
+
+        // When
+        newsService.togglePublishStatus(1L);
+        newsService.getLatestNews(6);
+
+        // Then
+        verify(newsRepository, times(2)).findLatestSummaries(any(Pageable.class));
+    }
+
+    @Test
+    void updateUnpublishedNews_KeepsPublishedCaches() {
+        // Given
+        News draft = new News("초안", "초안 요약", "초안 내용", "AI 뉴스", "Human.Ai.D");
+        draft.setId(2L);
+        when(newsRepository.findLatestSummaries(any(Pageable.class))).thenReturn(Arrays.asList(summary));
+        when(newsRepository.findById(2L)).thenReturn(Optional.of(draft));
+        when(newsRepository.save(any(News.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        newsService.getLatestNews(6);
+        newsService.updateNews(2L, draft);
+        newsService.getLatestNews(6);
+
+        // Then
+        verify(newsRepository, times(1)).findLatestSummaries(any(Pageable.class));
+    }
+
+    @Test
+    void changeCommittedDuringLoad_StaleResultNotCachedAndVersionBumpedAfterEviction() {
+        // Given - 조회하는 사이에 발행 뉴스 변경이 커밋됨
+        String versionBefore = newsService.getPublishedVersionTag();
+        when(newsRepository.findLatestSummaries(any(Pageable.class))).thenAnswer(invocation -> {
+            newsService.onNewsChangeCommitted(new NewsChangedEvent(1L, null, NewsChangedEvent.State.of(news)));
+            return Arrays.asList(summary);
+        });
+
+        // When
+        newsService.getLatestNews(6);
+        newsService.getLatestNews(6);
+
+        // Then - 변경 이전에 읽은 결과는 캐시에 남지 않음
+        verify(newsRepository, times(2)).findLatestSummaries(any(Pageable.class));
+        assertNotEquals(versionBefore, newsService.getPublishedVersionTag());
+    }
+
+    @Test
+    void getCacheStats_ReportsHitsAndMisses() {
+        // Given
+        when(newsRepository.findById(1L)).thenReturn(Optional.of(news));
+
+        // When
+        newsService.getNewsById(1L);
+        newsService.getNewsById(1L);
+
+        // Then
+        assertTrue(newsService.getCacheStats().stream()
+            .anyMatch(stats -> stats.getName().equals("newsDetail")
+                && stats.getHitCount() >= 1 && stats.getMissCount() >= 1));
+        verify(newsRepository, times(1)).findById(1L);
+    }
+}
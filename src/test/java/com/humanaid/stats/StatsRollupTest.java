@@ -0,0 +1,121 @@
+package com.humanaid.stats;
+
+import com.humanaid.dto.CategoryCount;
+import com.humanaid.dto.MonthlyCount;
+import com.humanaid.repository.NewsRepository;
+import com.humanaid.service.NewsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatsRollupTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2024, 1, 15, 10, 0);
+    private static final LocalDateTime FEB = LocalDateTime.of(2024, 2, 3, 9, 30);
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @InjectMocks
+    private NewsStatsRollup newsStatsRollup;
+
+    @BeforeEach
+    void setUp() {
+        when(newsRepository.countByCategory()).thenReturn(List.of(new CategoryCount("technology", 2L)));
+        when(newsRepository.countPublishedByDay()).thenReturn(List.of(
+            new Object[] { 2024, 1, 15, 1L },
+            new Object[] { 2024, 2, 3, 1L }));
+        newsStatsRollup.reconcile();
+    }
+
+    @Test
+    void reconcile_LoadsCountsFromDatabase() {
+        // Then
+        assertTrue(newsStatsRollup.isReady());
+        assertEquals(Map.of("technology", 2L), newsStatsRollup.countsByKey());
+        assertMonths(List.of(new MonthlyCount(2024, 1, 1L), new MonthlyCount(2024, 2, 1L)),
+            newsStatsRollup.countsByMonth(null));
+    }
+
+    @Test
+    void onNewsChanged_PublishAndUnpublishAdjustCounts() {
+        // When - 새 뉴스 발행, 기존 뉴스 발행 취소
+        newsStatsRollup.onNewsChanged(new NewsChangedEvent(10L, null,
+            new NewsChangedEvent.State(true, "research", FEB)));
+        newsStatsRollup.onNewsChanged(new NewsChangedEvent(1L,
+            new NewsChangedEvent.State(true, "technology", JAN),
+            new NewsChangedEvent.State(false, "technology", JAN)));
+
+        // Then
+        assertEquals(List.of("research", "technology"), List.copyOf(newsStatsRollup.countsByKey().keySet()));
+        assertEquals(Map.of("research", 1L, "technology", 1L), newsStatsRollup.countsByKey());
+        assertMonths(List.of(new MonthlyCount(2024, 2, 2L)), newsStatsRollup.countsByMonth(null));
+    }
+
+    @Test
+    void onNewsChanged_CategoryChangeMovesCount() {
+        // When
+        newsStatsRollup.onNewsChanged(new NewsChangedEvent(1L,
+            new NewsChangedEvent.State(true, "technology", JAN),
+            new NewsChangedEvent.State(true, "company", JAN)));
+
+        // Then
+        assertEquals(Map.of("company", 1L, "technology", 1L), newsStatsRollup.countsByKey());
+    }
+
+    @Test
+    void countsByMonth_FiltersFromStartDate() {
+        // When
+        List<MonthlyCount> rows = newsStatsRollup.countsByMonth(LocalDateTime.of(2024, 2, 1, 0, 0));
+
+        // Then
+        assertMonths(List.of(new MonthlyCount(2024, 2, 1L)), rows);
+    }
+
+    @Test
+    void countsByMonth_StartDateMidDay_IncludesWholeDay() {
+        // When - 1월 15일 10시 건보다 늦은 시각이지만 같은 날
+        List<MonthlyCount> rows = newsStatsRollup.countsByMonth(LocalDateTime.of(2024, 1, 15, 18, 0));
+
+        // Then - 일자 단위 집계이므로 그 날 전체를 포함하고, DB 대체 조회도 같은 시각부터 센다
+        assertMonths(List.of(new MonthlyCount(2024, 1, 1L), new MonthlyCount(2024, 2, 1L)), rows);
+        assertEquals(LocalDateTime.of(2024, 1, 15, 0, 0),
+            StatsRollupSupport.startOfDay(LocalDateTime.of(2024, 1, 15, 18, 0)));
+    }
+
+    @Test
+    void replaceIfUnchanged_SkipsWhenChangedDuringReconcile() {
+        // Given
+        CountRollup rollup = new CountRollup();
+        long version = rollup.version();
+        rollup.apply("general", LocalDate.of(2024, 1, 1), 1);
+
+        // When
+        int drift = rollup.replaceIfUnchanged(version, Map.of(), Map.of());
+
+        // Then
+        assertEquals(-1, drift);
+        assertEquals(1, rollup.countsByKey().size());
+    }
+
+    private static void assertMonths(List<MonthlyCount> expected, List<MonthlyCount> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getYear(), actual.get(i).getYear());
+            assertEquals(expected.get(i).getMonth(), actual.get(i).getMonth());
+            assertEquals(expected.get(i).getCount(), actual.get(i).getCount());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.humanaid.store;
+
+import com.humanaid.service.NewsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapNewsStoreTest {
+
+    private OffHeapNewsStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OffHeapNewsStore();
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "capacityMb", 1);
+        store.allocate();
+    }
+
+    @Test
+    void put_ThenGet_RestoresAllFields() {
+        // Given
+        LocalDateTime publishedAt = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123456789);
+        NewsRecord record = new NewsRecord(7L, "AI 의료 진단", "요약", "본문 — 한글과 emoji 😀", null,
+            "의료 AI", "Human.Ai.D", "https://example.com/7", true, publishedAt, publishedAt.minusDays(1), null);
+
+        // When
+        assertTrue(store.put(record, store.generation()));
+        NewsRecord stored = store.get(7L).orElseThrow();
+
+        // Then
+        assertEquals(record, stored);
+        assertEquals("본문 — 한글과 emoji 😀", stored.toNews().getContent());
+        assertTrue(store.get(8L).isEmpty());
+    }
+
+    @Test
+    void put_AfterChange_IgnoresStaleRead() {
+        // Given - DB에서 읽은 뒤 발행 취소가 커밋됨
+        long readGeneration = store.generation();
+        store.onNewsChanged(new NewsChangedEvent(1L,
+            new NewsChangedEvent.State(true, "AI 뉴스", LocalDateTime.now()),
+            new NewsChangedEvent.State(false, "AI 뉴스", null)));
+
+        // When
+        boolean stored = store.put(record(1L, 100), readGeneration);
+
+        // Then
+        assertFalse(stored);
+        assertTrue(store.get(1L).isEmpty());
+    }
+
+    @Test
+    void put_ReplacingRecords_ReclaimsSpaceByCompaction() {
+        // Given - 약 300KB 레코드 2건이 살아 있는 1MB 저장소
+        store.put(record(1L, 300_000), store.generation());
+        store.put(record(2L, 300_000), store.generation());
+
+        // When - 1번 기사를 여러 번 교체 (빈 공간이 누적됨)
+        for (int i = 0; i < 10; i++) {
+            assertTrue(store.put(record(1L, 300_000), store.generation()));
+        }
+
+        // Then
+        assertEquals(2, store.size());
+        assertTrue(store.getLiveBytes() < 700_000);
+        assertEquals(300_000, store.get(1L).orElseThrow().content().length());
+        assertEquals(300_000, store.get(2L).orElseThrow().content().length());
+    }
+
+    @Test
+    void put_WhenFull_SkipsRecordAndRemoveFreesSpace() {
+        // Given
+        store.put(record(1L, 600_000), store.generation());
+
+        // When & Then - 남은 공간보다 큰 기사는 저장하지 않음
+        assertFalse(store.put(record(2L, 600_000), store.generation()));
+        assertTrue(store.get(2L).isEmpty());
+
+        // When & Then - 삭제 후에는 저장 가능
+        store.remove(1L);
+        assertTrue(store.put(record(2L, 600_000), store.generation()));
+        assertTrue(store.get(1L).isEmpty());
+    }
+
+    @Test
+    void put_Unpublished_NotStored() {
+        // Given
+        NewsRecord draft = new NewsRecord(3L, "초안", "요약", "본문", null, "AI 뉴스", null, null,
+            false, null, LocalDateTime.now(), null);
+
+        // When & Then
+        assertFalse(store.put(draft, store.generation()));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void restore_FromRecordSection_ReplacesContents() {
+        // Given - 다른 저장소의 레코드를 스냅샷 파일 레코드 구간 형식으로 기록
+        OffHeapNewsStore source = new OffHeapNewsStore();
+        ReflectionTestUtils.setField(source, "enabled", true);
+        ReflectionTestUtils.setField(source, "capacityMb", 1);
+        source.allocate();
+        source.put(record(1L, 100), source.generation());
+        source.put(record(2L, 200), source.generation());
+        ByteBuffer records = ByteBuffer.allocate(4096);
+        source.forEachRecord(record -> records.putInt(record.remaining()).put(record));
+        records.putInt(-1).flip();
+        store.put(record(9L, 100), store.generation());
+
+        // When
+        boolean restored = store.restore(records, store.generation());
+
+        // Then
+        assertTrue(restored);
+        assertEquals(2, store.size());
+        assertEquals(200, store.get(2L).orElseThrow().content().length());
+        assertTrue(store.get(9L).isEmpty());
+    }
+
+    private static NewsRecord record(Long id, int contentLength) {
+        return new NewsRecord(id, "제목 " + id, "요약", "a".repeat(contentLength), null, "AI 뉴스", null, null,
+            true, LocalDateTime.now(), LocalDateTime.now(), null);
+    }
+}